@@ -0,0 +1,85 @@
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Closed-loop load generator: every client sends the next GET as soon as the previous one returns.
+// usage: java LoadBenchmark.java <url> <token> [clients] [seconds] [warmup seconds]
+public class LoadBenchmark {
+
+    public static void main(String[] args) throws Exception {
+        URI uri = URI.create(args[0]);
+        String token = args[1];
+        int clients = args.length > 2 ? Integer.parseInt(args[2]) : 400;
+        Duration duration = Duration.ofSeconds(args.length > 3 ? Long.parseLong(args[3]) : 30);
+        Duration warmup = Duration.ofSeconds(args.length > 4 ? Long.parseLong(args[4]) : 10);
+
+        HttpClient client = HttpClient.newBuilder()
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+        HttpRequest request = HttpRequest.newBuilder(uri)
+                .header("Authorization", "Bearer " + token)
+                .timeout(Duration.ofSeconds(60))
+                .GET()
+                .build();
+
+        System.out.printf("warmup %ds with %d clients%n", warmup.toSeconds(), clients);
+        run(client, request, clients, warmup);
+        System.out.printf("measuring %ds with %d clients%n", duration.toSeconds(), clients);
+        Result result = run(client, request, clients, duration);
+
+        long[] latencies = result.latencies().stream().mapToLong(Long::longValue).sorted().toArray();
+        System.out.printf("requests=%d throughput=%.1f req/s errors=%d statuses=%s%n",
+                latencies.length, latencies.length / (double) duration.toSeconds(), result.errors().get(), result.statuses());
+        System.out.printf("latency ms p50=%.1f p90=%.1f p99=%.1f max=%.1f%n",
+                percentile(latencies, 0.50), percentile(latencies, 0.90), percentile(latencies, 0.99), percentile(latencies, 1.0));
+    }
+
+    private static Result run(HttpClient client, HttpRequest request, int clients, Duration duration) throws InterruptedException {
+        long deadline = System.nanoTime() + duration.toNanos();
+        List<List<Long>> latenciesPerClient = new ArrayList<>();
+        Map<Integer, AtomicLong> statuses = new ConcurrentHashMap<>();
+        AtomicLong errors = new AtomicLong();
+        try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < clients; i++) {
+                List<Long> latencies = new ArrayList<>();
+                latenciesPerClient.add(latencies);
+                executor.submit(() -> {
+                    while (System.nanoTime() < deadline) {
+                        long start = System.nanoTime();
+                        try {
+                            HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                            statuses.computeIfAbsent(response.statusCode(), status -> new AtomicLong()).incrementAndGet();
+                            latencies.add(System.nanoTime() - start);
+                        } catch (Exception e) {
+                            errors.incrementAndGet();
+                        }
+                    }
+                });
+            }
+        }
+        List<Long> latencies = new ArrayList<>();
+        latenciesPerClient.forEach(latencies::addAll);
+        return new Result(latencies, statuses, errors);
+    }
+
+    private static double percentile(long[] sortedLatencies, double percentile) {
+        if (sortedLatencies.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile * sortedLatencies.length) - 1;
+        return sortedLatencies[Math.max(0, index)] / 1_000_000.0;
+    }
+
+    private record Result(List<Long> latencies, Map<Integer, AtomicLong> statuses, AtomicLong errors) {
+    }
+
+}
@@ -0,0 +1,51 @@
+#!/usr/bin/env bash
+# Concurrent writers racing on one task with conditional PUT.
+# Every writer reads the task (GET returns ETag), then sends PUT with If-Match.
+# Under contention exactly one writer per version wins, the rest get 412 and retry.
+#
+# usage: TOKEN=<admin or manager jwt> ./concurrent-writers.sh <task id> [writers] [updates per writer]
+set -euo pipefail
+
+HOST=${HOST:-http://localhost:8000}
+TASK_ID=${1:?task id required}
+WRITERS=${2:-8}
+UPDATES=${3:-20}
+AUTH="Authorization: Bearer ${TOKEN:?TOKEN env variable required}"
+OUT=$(mktemp -d)
+
+write() {
+  local writer=$1 done=0 conflicts=0
+  while [ "$done" -lt "$UPDATES" ]; do
+    local headers body etag status
+    headers=$(mktemp)
+    body=$(curl -s -D "$headers" -H "$AUTH" "$HOST/api/tasks/$TASK_ID")
+    etag=$(grep -i '^etag:' "$headers" | tr -d '\r' | cut -d' ' -f2)
+    rm -f "$headers"
+    local payload
+    payload=$(echo "$body" | sed -E "s/\"title\":\"[^\"]*\"/\"title\":\"writer-$writer-$done\"/")
+    status=$(curl -s -o /dev/null -w '%{http_code}' -X PUT "$HOST/api/tasks/$TASK_ID" \
+      -H "$AUTH" -H 'Content-Type: application/json' -H "If-Match: $etag" -d "$payload")
+    if [ "$status" = "200" ]; then
+      done=$((done + 1))
+    elif [ "$status" = "412" ]; then
+      conflicts=$((conflicts + 1))
+    else
+      echo "writer $writer: unexpected status $status" >&2
+      exit 1
+    fi
+  done
+  echo "$conflicts" > "$OUT/$writer"
+}
+
+export -f write
+export HOST TASK_ID UPDATES AUTH OUT
+
+start=$(date +%s%N)
+seq 1 "$WRITERS" | xargs -P "$WRITERS" -I{} bash -c 'write {}'
+elapsed=$(( ($(date +%s%N) - start) / 1000000 ))
+
+conflicts=$(cat "$OUT"/* | awk '{ sum += $1 } END { print sum }')
+version=$(curl -s -H "$AUTH" "$HOST/api/tasks/$TASK_ID" | sed -E 's/.*"version":([0-9]+).*/\1/')
+rm -rf "$OUT"
+
+echo "writers=$WRITERS updates=$((WRITERS * UPDATES)) conflicts(412)=$conflicts elapsed=${elapsed}ms final version=$version"
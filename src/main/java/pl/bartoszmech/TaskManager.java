@@ -3,10 +3,18 @@ package pl.bartoszmech;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import pl.bartoszmech.application.services.LeaderboardProperties;
+import pl.bartoszmech.infrastructure.cache.ChangeListenerProperties;
+import pl.bartoszmech.infrastructure.datasource.PoolSizeProperties;
+import pl.bartoszmech.infrastructure.datasource.ReplicaProperties;
 import pl.bartoszmech.infrastructure.security.jwt.JwtConfigurationProperties;
+import pl.bartoszmech.infrastructure.task.cache.TaskCacheProperties;
+import pl.bartoszmech.infrastructure.task.scheduler.TaskDeadlineProperties;
+import pl.bartoszmech.infrastructure.task.scheduler.TaskScanProperties;
+import pl.bartoszmech.infrastructure.user.configuration.UserCacheProperties;
 
 @SpringBootApplication
-@EnableConfigurationProperties(value = JwtConfigurationProperties.class)
+@EnableConfigurationProperties(value = {JwtConfigurationProperties.class, TaskDeadlineProperties.class, LeaderboardProperties.class, UserCacheProperties.class, TaskCacheProperties.class, ReplicaProperties.class, PoolSizeProperties.class, TaskScanProperties.class, ChangeListenerProperties.class})
 public class TaskManager {
 
     public static void main(String[] args) {
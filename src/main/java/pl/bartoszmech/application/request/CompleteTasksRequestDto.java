@@ -0,0 +1,16 @@
+package pl.bartoszmech.application.request;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public record CompleteTasksRequestDto(
+
+        @NotEmpty(message = "Task ids are required.")
+        @Size(max = 500, message = "Task ids must not exceed 500 elements.")
+        List<@NotNull(message = "Task id must not be null.") Long> ids
+
+) {
+}
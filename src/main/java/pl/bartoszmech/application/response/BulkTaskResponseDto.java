@@ -0,0 +1,11 @@
+package pl.bartoszmech.application.response;
+
+import java.util.List;
+
+public record BulkTaskResponseDto(
+
+        int created,
+        int rejected,
+        List<BulkTaskResultDto> results
+
+) {}
@@ -0,0 +1,25 @@
+package pl.bartoszmech.application.response;
+
+import java.util.List;
+
+public record BulkTaskResultDto(
+
+        int index,
+        TaskResponseDto task,
+        List<String> errors
+
+) {
+
+    public static BulkTaskResultDto created(int index, TaskResponseDto task) {
+        return new BulkTaskResultDto(index, task, List.of());
+    }
+
+    public static BulkTaskResultDto rejected(int index, List<String> errors) {
+        return new BulkTaskResultDto(index, null, errors);
+    }
+
+    public boolean isCreated() {
+        return task != null;
+    }
+
+}
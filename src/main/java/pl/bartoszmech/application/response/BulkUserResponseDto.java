@@ -0,0 +1,11 @@
+package pl.bartoszmech.application.response;
+
+import java.util.List;
+
+public record BulkUserResponseDto(
+
+        int created,
+        int rejected,
+        List<BulkUserResultDto> results
+
+) {}
@@ -0,0 +1,25 @@
+package pl.bartoszmech.application.response;
+
+import java.util.List;
+
+public record BulkUserResultDto(
+
+        int index,
+        UserResponseDto user,
+        List<String> errors
+
+) {
+
+    public static BulkUserResultDto created(int index, UserResponseDto user) {
+        return new BulkUserResultDto(index, user, List.of());
+    }
+
+    public static BulkUserResultDto rejected(int index, List<String> errors) {
+        return new BulkUserResultDto(index, null, errors);
+    }
+
+    public boolean isCreated() {
+        return user != null;
+    }
+
+}
@@ -0,0 +1,11 @@
+package pl.bartoszmech.application.response;
+
+import org.springframework.http.HttpStatus;
+
+public record TaskCompletionResponseDto(long id, String message, HttpStatus status) {
+
+    public static TaskCompletionResponseDto of(long id, TaskInfoResponseDto info) {
+        return new TaskCompletionResponseDto(id, info.message(), info.status());
+    }
+
+}
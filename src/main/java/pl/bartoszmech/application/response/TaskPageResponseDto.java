@@ -0,0 +1,11 @@
+package pl.bartoszmech.application.response;
+
+import java.util.List;
+
+public record TaskPageResponseDto(
+
+        List<TaskResponseDto> tasks,
+        String nextCursor
+
+) {
+}
@@ -15,7 +15,8 @@ public record TaskResponseDto(
         LocalDateTime startDate,
         LocalDateTime endDate,
         LocalDateTime completedAt,
-        Long assignedTo
+        Long assignedTo,
+        Long version
 
 ) {
 }
@@ -10,7 +10,8 @@ public record UserResponseDto(
         String firstName,
         String lastName,
         String email,
-        UserRoles role
+        UserRoles role,
+        Long version
 
 ) {
 }
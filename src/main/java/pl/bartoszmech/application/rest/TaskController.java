@@ -7,6 +7,8 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import jakarta.validation.Valid;
 import lombok.AllArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -15,20 +17,42 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import pl.bartoszmech.application.request.CompleteTasksRequestDto;
 import pl.bartoszmech.application.request.CreateAndUpdateTaskRequestDto;
+import pl.bartoszmech.application.response.BulkTaskResponseDto;
+import pl.bartoszmech.application.response.TaskCompletionResponseDto;
+import pl.bartoszmech.application.response.TaskPageResponseDto;
 import pl.bartoszmech.application.response.TaskResponseDto;
+import pl.bartoszmech.domain.task.TaskExportFilter;
+import pl.bartoszmech.domain.task.TaskPageOrder;
+import pl.bartoszmech.domain.task.TaskStatus;
 import pl.bartoszmech.domain.task.service.TaskService;
 import pl.bartoszmech.application.services.AuthorizationService;
+import pl.bartoszmech.application.services.LeaderboardService;
+import pl.bartoszmech.application.services.TaskBulkImportService;
+import pl.bartoszmech.application.services.TaskExportFormat;
+import pl.bartoszmech.application.services.TaskExportService;
 import pl.bartoszmech.application.response.TaskInfoResponseDto;
+import pl.bartoszmech.infrastructure.apivalidation.EntityVersionTag;
+import pl.bartoszmech.infrastructure.apivalidation.ParameterValidation;
+import pl.bartoszmech.infrastructure.apivalidation.PreconditionFailed;
 import pl.bartoszmech.infrastructure.apivalidation.ResourceNotFound;
 import pl.bartoszmech.infrastructure.apivalidation.ValidationResponse;
 import pl.bartoszmech.infrastructure.auth.error.UnauthorizedAccessException;
 
 import javax.naming.AuthenticationException;
+import java.io.InputStream;
+import java.time.LocalDateTime;
 import java.util.List;
 
+import static org.springframework.format.annotation.DateTimeFormat.ISO.DATE_TIME;
+import static org.springframework.http.HttpHeaders.CONTENT_DISPOSITION;
+import static org.springframework.http.HttpHeaders.IF_MATCH;
 import static org.springframework.http.HttpStatus.CREATED;
 import static org.springframework.http.HttpStatus.OK;
 
@@ -39,17 +63,51 @@ public class TaskController {
 
     private final TaskService taskService;
     private final AuthorizationService authorizationService;
+    private final LeaderboardService leaderboardService;
+    private final TaskExportService taskExportService;
+    private final TaskBulkImportService taskBulkImportService;
 
-    @Operation(summary = "Find all tasks")
+    @Operation(summary = "Find tasks page by page, pass nextCursor from previous page to get the next one")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Success operation"),
+            @ApiResponse(responseCode = "400", description = "Limit out of range or cursor invalid for requested order",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = ValidationResponse.class))),
             @ApiResponse(responseCode = "401", description = "Authentication Error, Dont pass token or pass invalid token",
                     content = @Content(mediaType = "application/json",
                             schema = @Schema(implementation = AuthenticationException.class)))
     })
     @GetMapping
-    public ResponseEntity<List<TaskResponseDto>> findAllTasks() {
-        return ResponseEntity.status(OK).body(taskService.listTasks());
+    public ResponseEntity<TaskPageResponseDto> findAllTasks(
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "limit", required = false, defaultValue = "50") int limit,
+            @RequestParam(name = "order-by", required = false, defaultValue = "ID") TaskPageOrder order) {
+        ParameterValidation.validatePageLimit(limit);
+        return ResponseEntity.status(OK).body(taskService.listTasks(cursor, limit, order));
+    }
+
+    @Operation(summary = "Export tasks as NDJSON or CSV stream, optionally filtered by status, assignee and end date")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Success operation"),
+            @ApiResponse(responseCode = "401", description = "Authentication Error, Dont pass token or pass invalid token",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = AuthenticationException.class))),
+            @ApiResponse(responseCode = "403", description = "Cannot access this resource (You have to be manager or admin)",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = UnauthorizedAccessException.class)))
+    })
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportTasks(
+            @RequestParam(name = "format", required = false, defaultValue = "NDJSON") TaskExportFormat format,
+            @RequestParam(name = "status", required = false) TaskStatus status,
+            @RequestParam(name = "assigned-to", required = false) Long assignedTo,
+            @RequestParam(name = "end-after", required = false) @DateTimeFormat(iso = DATE_TIME) LocalDateTime endAfter,
+            @RequestParam(name = "end-before", required = false) @DateTimeFormat(iso = DATE_TIME) LocalDateTime endBefore) {
+        TaskExportFilter filter = new TaskExportFilter(status, assignedTo, endAfter, endBefore);
+        return ResponseEntity.status(OK)
+                .contentType(MediaType.parseMediaType(format.getMediaType()))
+                .header(CONTENT_DISPOSITION, "attachment; filename=\"" + format.getFileName() + "\"")
+                .body(outputStream -> taskExportService.export(filter, format, outputStream));
     }
 
     @Operation(summary = "Find task by id")
@@ -65,7 +123,7 @@ public class TaskController {
     @GetMapping("/{id}")
     public ResponseEntity<TaskResponseDto> findTaskById(@PathVariable("id") long id) {
         TaskResponseDto task = findTaskAndCheckIfEmployeeHasPermission(id);
-        return ResponseEntity.status(OK).body(task);
+        return ResponseEntity.status(OK).eTag(EntityVersionTag.of(task.version())).body(task);
     }
 
     @Operation(summary = "Create task")
@@ -84,6 +142,21 @@ public class TaskController {
         return ResponseEntity.status(CREATED).body(taskService.createTask(requestDto));
     }
 
+    @Operation(summary = "Create many tasks from JSON array, each item is created or rejected independently")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Import finished, see per-item results"),
+            @ApiResponse(responseCode = "401", description = "Authentication Error, Dont pass token or pass invalid token",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = AuthenticationException.class))),
+            @ApiResponse(responseCode = "403", description = "Cannot access this resource (You have to be manager or admin)",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = UnauthorizedAccessException.class)))
+    })
+    @PostMapping(value = "/bulk", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<BulkTaskResponseDto> createTasks(InputStream body) {
+        return ResponseEntity.status(OK).body(taskBulkImportService.importTasks(body));
+    }
+
     @Operation(summary = "Delete task")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Delete operation"),
@@ -96,7 +169,10 @@ public class TaskController {
     })
     @DeleteMapping("/{id}")
     public ResponseEntity<TaskResponseDto> deleteTaskById(@PathVariable("id") long id) {
-        return ResponseEntity.status(OK).body(taskService.deleteById(id));    }
+        TaskResponseDto deletedTask = taskService.deleteById(id);
+        leaderboardService.invalidate();
+        return ResponseEntity.status(OK).body(deletedTask);
+    }
 
     @Operation(summary = "Update task")
     @ApiResponses(value = {
@@ -112,12 +188,18 @@ public class TaskController {
                             schema = @Schema(implementation = UnauthorizedAccessException.class))),
             @ApiResponse(responseCode = "404", description = "Task with provided id not found in database",
                     content = @Content(mediaType = "application/json",
-                            schema = @Schema(implementation = ResourceNotFound.class)))
+                            schema = @Schema(implementation = ResourceNotFound.class))),
+            @ApiResponse(responseCode = "412", description = "If-Match header does not match current ETag, resource was modified in the meantime",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = PreconditionFailed.class)))
     })
     @PutMapping("/{id}")
-    public ResponseEntity<TaskResponseDto> editTaskById(@PathVariable("id") long id, @RequestBody @Valid CreateAndUpdateTaskRequestDto  requestDto) {
+    public ResponseEntity<TaskResponseDto> editTaskById(@PathVariable("id") long id, @RequestBody @Valid CreateAndUpdateTaskRequestDto  requestDto,
+                                                        @RequestHeader(name = IF_MATCH, required = false) String ifMatch) {
         authorizationService.checkIfTaskAssignedToEmployee(requestDto.assignedTo());
-        return ResponseEntity.status(OK).body(taskService.updateTask(id, requestDto));
+        TaskResponseDto updatedTask = taskService.updateTask(id, requestDto, EntityVersionTag.parseIfMatch(ifMatch));
+        leaderboardService.invalidate();
+        return ResponseEntity.status(OK).eTag(EntityVersionTag.of(updatedTask.version())).body(updatedTask);
     }
 
     @Operation(summary = "Get employee task by id")
@@ -129,14 +211,22 @@ public class TaskController {
             @ApiResponse(responseCode = "403", description = "Cannot access this resource (You have to be manager or admin)",
                     content = @Content(mediaType = "application/json",
                             schema = @Schema(implementation = UnauthorizedAccessException.class))),
+            @ApiResponse(responseCode = "400", description = "Limit out of range or cursor invalid for requested order",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = ValidationResponse.class))),
             @ApiResponse(responseCode = "404", description = "Employee with provided id not found",
                     content = @Content(mediaType = "application/json",
                             schema = @Schema(implementation = ResourceNotFound.class)))
     })
     @GetMapping("/employee/{userId}")
-    public ResponseEntity<List<TaskResponseDto>> listEmployeeTasks(@PathVariable("userId") long id) {
+    public ResponseEntity<TaskPageResponseDto> listEmployeeTasks(
+            @PathVariable("userId") long id,
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "limit", required = false, defaultValue = "50") int limit,
+            @RequestParam(name = "order-by", required = false, defaultValue = "ID") TaskPageOrder order) {
+        ParameterValidation.validatePageLimit(limit);
         authorizationService.hasUserPermissionToReadTasksOfEmployee(id);
-        return ResponseEntity.status(OK).body(taskService.listEmployeeTasks(id));
+        return ResponseEntity.status(OK).body(taskService.listEmployeeTasks(id, cursor, limit, order));
     }
 
     @Operation(summary = "Complete task")
@@ -157,11 +247,37 @@ public class TaskController {
     })
     @PatchMapping("/{id}/complete")
     public ResponseEntity<TaskInfoResponseDto> completeTask(@PathVariable("id") long id) {
-        findTaskAndCheckIfEmployeeHasPermission(id);
-        TaskInfoResponseDto taskResponse = taskService.completeTask(id);
+        long employeeId = authorizationService.findAuthenticatedPrincipal().id();
+        TaskInfoResponseDto taskResponse = taskService.completeAssignedTask(employeeId, id);
+        if (taskResponse.status() == OK) {
+            leaderboardService.invalidate();
+        }
         return ResponseEntity.status(taskResponse.status()).body(taskResponse);
     }
 
+    @Operation(summary = "Complete many tasks assigned to you, outcome is reported for each id")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Update operation, see per-id outcomes"),
+            @ApiResponse(responseCode = "400", description = "Validation failed",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = ValidationResponse.class))),
+            @ApiResponse(responseCode = "401", description = "Authentication Error, Dont pass token or pass invalid token",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = AuthenticationException.class))),
+            @ApiResponse(responseCode = "403", description = "Cannot access this resource (You have to be employee)",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = UnauthorizedAccessException.class)))
+    })
+    @PatchMapping("/complete")
+    public ResponseEntity<List<TaskCompletionResponseDto>> completeTasks(@RequestBody @Valid CompleteTasksRequestDto requestDto) {
+        long employeeId = authorizationService.findAuthenticatedPrincipal().id();
+        List<TaskCompletionResponseDto> outcomes = taskService.completeTasks(employeeId, requestDto.ids());
+        if (outcomes.stream().anyMatch(outcome -> outcome.status() == OK)) {
+            leaderboardService.invalidate();
+        }
+        return ResponseEntity.status(OK).body(outcomes);
+    }
+
     private TaskResponseDto findTaskAndCheckIfEmployeeHasPermission(long id) {
         TaskResponseDto task = taskService.findById(id);
         authorizationService.hasUserPermissionToReadTaskWithId(id, task.assignedTo());
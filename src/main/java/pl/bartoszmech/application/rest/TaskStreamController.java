@@ -0,0 +1,64 @@
+package pl.bartoszmech.application.rest;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import lombok.AllArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import pl.bartoszmech.application.response.TaskResponseDto;
+import pl.bartoszmech.application.services.AuthorizationService;
+import pl.bartoszmech.application.services.TaskStreamService;
+import pl.bartoszmech.domain.task.TaskStatus;
+import pl.bartoszmech.infrastructure.auth.error.UnauthorizedAccessException;
+import reactor.core.publisher.Flux;
+
+import javax.naming.AuthenticationException;
+
+import static org.springframework.http.MediaType.APPLICATION_NDJSON_VALUE;
+
+@RestController
+@RequestMapping("/api/tasks/stream")
+@AllArgsConstructor
+public class TaskStreamController {
+
+    private final TaskStreamService taskStreamService;
+    private final AuthorizationService authorizationService;
+
+    @Operation(summary = "Stream tasks as NDJSON without holding a request thread, optionally filtered by status")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Success operation"),
+            @ApiResponse(responseCode = "401", description = "Authentication Error, Dont pass token or pass invalid token",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = AuthenticationException.class))),
+            @ApiResponse(responseCode = "403", description = "Cannot access this resource (You have to be manager or admin)",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = UnauthorizedAccessException.class)))
+    })
+    @GetMapping(produces = APPLICATION_NDJSON_VALUE)
+    public Flux<TaskResponseDto> streamTasks(@RequestParam(name = "status", required = false) TaskStatus status) {
+        return taskStreamService.streamTasks(status);
+    }
+
+    @Operation(summary = "Stream tasks of employee as NDJSON without holding a request thread")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Success operation"),
+            @ApiResponse(responseCode = "401", description = "Authentication Error, Dont pass token or pass invalid token",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = AuthenticationException.class))),
+            @ApiResponse(responseCode = "403", description = "Employee can stream only tasks assigned to them",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = UnauthorizedAccessException.class)))
+    })
+    @GetMapping(path = "/employee/{userId}", produces = APPLICATION_NDJSON_VALUE)
+    public Flux<TaskResponseDto> streamEmployeeTasks(@PathVariable("userId") long id) {
+        authorizationService.hasUserPermissionToReadTasksOfEmployee(id);
+        return taskStreamService.streamEmployeeTasks(id);
+    }
+
+}
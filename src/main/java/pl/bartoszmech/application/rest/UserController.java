@@ -14,18 +14,22 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import pl.bartoszmech.application.request.CreateUserDto;
 import pl.bartoszmech.application.request.UpdateUserDto;
-import pl.bartoszmech.application.response.CompletedTasksByAssignedToResponseDto;
+import pl.bartoszmech.application.response.BulkUserResponseDto;
 import pl.bartoszmech.application.response.UserResponseDto;
-import pl.bartoszmech.application.services.EmployeeAnalysisService;
-import pl.bartoszmech.domain.task.service.TaskService;
+import pl.bartoszmech.application.services.LeaderboardService;
+import pl.bartoszmech.application.services.LeaderboardSnapshot;
+import pl.bartoszmech.application.services.UserBulkImportService;
 import pl.bartoszmech.domain.user.UserMapper;
 import pl.bartoszmech.domain.user.service.UserService;
+import pl.bartoszmech.infrastructure.apivalidation.EntityVersionTag;
 import pl.bartoszmech.infrastructure.apivalidation.ParameterValidation;
+import pl.bartoszmech.infrastructure.apivalidation.PreconditionFailed;
 import pl.bartoszmech.application.services.AuthorizationService;
 import pl.bartoszmech.application.response.CompletedTasksStatisticResponseDto;
 import pl.bartoszmech.infrastructure.apivalidation.ResourceNotFound;
@@ -35,6 +39,8 @@ import pl.bartoszmech.infrastructure.auth.error.UnauthorizedAccessException;
 import javax.naming.AuthenticationException;
 import java.util.List;
 
+import static org.springframework.http.HttpHeaders.AGE;
+import static org.springframework.http.HttpHeaders.IF_MATCH;
 import static org.springframework.http.HttpStatus.CREATED;
 import static org.springframework.http.HttpStatus.OK;
 
@@ -46,8 +52,8 @@ public class UserController {
 
     private final UserService userService;
     private final AuthorizationService authorizationService;
-    private final TaskService taskService;
-    private final EmployeeAnalysisService employeeAnalysisService;
+    private final LeaderboardService leaderboardService;
+    private final UserBulkImportService userBulkImportService;
 
     @Operation(summary = "Find all users")
     @ApiResponses(value = {
@@ -73,7 +79,8 @@ public class UserController {
     })
     @GetMapping("/{id}")
     public ResponseEntity<UserResponseDto> findById(@PathVariable("id") long id) {
-        return ResponseEntity.status(OK).body(userService.findById(id));
+        UserResponseDto user = userService.findById(id);
+        return ResponseEntity.status(OK).eTag(EntityVersionTag.of(user.version())).body(user);
     }
 
     @Operation(summary = "Create user")
@@ -95,6 +102,21 @@ public class UserController {
         return ResponseEntity.status(CREATED).body(userService.createUser(UserMapper.mapToCreateAndUpdateRequest(requestDto)));
     }
 
+    @Operation(summary = "Create many users, each row is created or rejected independently")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Import finished, see per-row results"),
+            @ApiResponse(responseCode = "401", description = "Authentication Error, Dont pass token or pass invalid token",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = AuthenticationException.class))),
+            @ApiResponse(responseCode = "403", description = "Cannot access this resource (You have to be admin)",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = UnauthorizedAccessException.class)))
+    })
+    @PostMapping("/bulk")
+    public ResponseEntity<BulkUserResponseDto> createUsers(@RequestBody List<CreateUserDto> requestDto) {
+        return ResponseEntity.status(OK).body(userBulkImportService.importUsers(requestDto));
+    }
+
     @Operation(summary = "Delete user")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Success operation"),
@@ -107,7 +129,10 @@ public class UserController {
     })
     @DeleteMapping("/{id}")
     public ResponseEntity<UserResponseDto> deleteById(@PathVariable("id") long id) {
-        return ResponseEntity.status(OK).body(userService.deleteById(id));    }
+        UserResponseDto deletedUser = userService.deleteById(id);
+        authorizationService.evictCachedRole(id);
+        return ResponseEntity.status(OK).body(deletedUser);
+    }
 
     @Operation(summary = "Update user")
     @ApiResponses(value = {
@@ -123,18 +148,24 @@ public class UserController {
                             schema = @Schema(implementation = UnauthorizedAccessException.class))),
             @ApiResponse(responseCode = "404", description = "User with provided id not found",
                     content = @Content(mediaType = "application/json",
-                            schema = @Schema(implementation = ResourceNotFound.class)))
+                            schema = @Schema(implementation = ResourceNotFound.class))),
+            @ApiResponse(responseCode = "412", description = "If-Match header does not match current ETag, resource was modified in the meantime",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = PreconditionFailed.class)))
     })
     @PutMapping("/{id}")
-    public ResponseEntity<UserResponseDto> editUserById(@PathVariable("id") long id, @Valid @RequestBody UpdateUserDto requestDto) {
+    public ResponseEntity<UserResponseDto> editUserById(@PathVariable("id") long id, @Valid @RequestBody UpdateUserDto requestDto,
+                                                        @RequestHeader(name = IF_MATCH, required = false) String ifMatch) {
         authorizationService.checkIfUserWantsCreateAdmin(requestDto.role());
-        return ResponseEntity.status(OK).body(userService.updateUser(id, requestDto));
+        UserResponseDto updatedUser = userService.updateUser(id, requestDto, EntityVersionTag.parseIfMatch(ifMatch));
+        authorizationService.evictCachedRole(id);
+        return ResponseEntity.status(OK).eTag(EntityVersionTag.of(updatedUser.version())).body(updatedUser);
     }
 
     @Operation(summary = "Find all users with employee role and sort it by number of completed tasks")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Success operation"),
-            @ApiResponse(responseCode = "400", description = "Last months parameter was invalid type or out of range",
+            @ApiResponse(responseCode = "400", description = "Last months or limit parameter was invalid type or out of range",
                     content = @Content(mediaType = "application/json",
                             schema = @Schema(implementation = ValidationResponse.class))),
             @ApiResponse(responseCode = "401", description = "Authentication Error, Dont pass token or pass invalid token",
@@ -146,14 +177,16 @@ public class UserController {
             name = "last-months",
             required = false,
             defaultValue = "6"
-    ) int lastMonths) {
+    ) int lastMonths, @RequestParam(name = "limit", required = false) Integer limit) {
         ParameterValidation.validateLastMonths(lastMonths);
-
-        List<CompletedTasksByAssignedToResponseDto> completedTasks = taskService.getCompletedTasksByAssignedTo(lastMonths);
-        List<UserResponseDto> employees = userService.listEmployees();
-
-        List<CompletedTasksStatisticResponseDto> statistics = employeeAnalysisService.sortEmployeesByCompletedTasks(employees, completedTasks, lastMonths);
-        return ResponseEntity.ok(statistics);
+        if (limit != null) {
+            ParameterValidation.validatePageLimit(limit);
+        }
+
+        LeaderboardSnapshot leaderboard = leaderboardService.getLeaderboard(lastMonths, limit);
+        return ResponseEntity.ok()
+                .header(AGE, String.valueOf(leaderboardService.ageOf(leaderboard).toSeconds()))
+                .body(leaderboard.statistics());
     }
 
 }
@@ -1,18 +1,25 @@
 package pl.bartoszmech.application.services;
 
 import lombok.AllArgsConstructor;
+import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import pl.bartoszmech.application.request.TokenRequestDto;
 import pl.bartoszmech.application.request.UpdatePasswordRequestDto;
 import pl.bartoszmech.application.response.UserResponseDto;
-import pl.bartoszmech.domain.user.UserMapper;
 import pl.bartoszmech.domain.user.UserRoles;
 import pl.bartoszmech.domain.user.dto.UserDto;
 import pl.bartoszmech.domain.user.service.UserService;
 import pl.bartoszmech.infrastructure.auth.error.UnauthorizedAccessException;
 import pl.bartoszmech.infrastructure.auth.dto.JwtResponseDto;
+import pl.bartoszmech.infrastructure.security.jwt.AuthenticatedUser;
 import pl.bartoszmech.infrastructure.security.jwt.JwtAuthenticatorService;
+import pl.bartoszmech.infrastructure.security.jwt.UserRoleCache;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 import static pl.bartoszmech.domain.user.UserRoles.ADMIN;
 import static pl.bartoszmech.domain.user.UserRoles.EMPLOYEE;
@@ -23,13 +30,15 @@ public class AuthorizationService {
 
     private static final String TASK_NOT_ASSIGNED_FOR_THIS_EMPLOYEE = "You dont have permission to read task with id: ";
     public static final String TASK_NOT_ASSIGNED_TO_EMPLOYEE = "Invalid assignedTo, task should be assigned to user with role employee but was: ";
-    private static final String ADMIN_CREATION_NOT_ALLOWED = "Admin cannot create other admin, please authenticate via valid endpoint";
+    private static final String ASSIGNEE_NOT_FOUND = "Invalid assignedTo, user could not be found: ";
+    public static final String ADMIN_CREATION_NOT_ALLOWED = "Admin cannot create other admin, please authenticate via valid endpoint";
     public static final String EMPLOYEE_TRYING_READ_NOT_HIS_TASKS = "You dont have permission to read tasks of employee with id: ";
 
     private final UserService userService;
     private final JwtAuthenticatorService jwtAuthenticatorService;
+    private final UserRoleCache userRoleCache;
     public void hasUserPermissionToReadTaskWithId(long taskId,  long assignedTo) {
-        UserDto user = findAuthenticatedUser();
+        AuthenticatedUser user = findAuthenticatedPrincipal();
         if (user.role().equals(EMPLOYEE) && assignedTo != user.id()) {
             throw new UnauthorizedAccessException(TASK_NOT_ASSIGNED_FOR_THIS_EMPLOYEE + taskId);
         }
@@ -40,7 +49,7 @@ public class AuthorizationService {
     }
 
     public void hasUserPermissionToReadTasksOfEmployee(long id) {
-        UserDto user = findAuthenticatedUser();
+        AuthenticatedUser user = findAuthenticatedPrincipal();
         if (user.role().equals(EMPLOYEE) && id != user.id()) {
             throw new UnauthorizedAccessException(EMPLOYEE_TRYING_READ_NOT_HIS_TASKS + id);
         }
@@ -53,26 +62,47 @@ public class AuthorizationService {
         }
     }
 
+    public Map<Long, String> findInvalidTaskAssignees(Collection<Long> assignees) {
+        Map<Long, UserRoles> roles = userService.findAllByIds(assignees).stream()
+                .collect(Collectors.toMap(UserResponseDto::id, UserResponseDto::role));
+        Map<Long, String> invalidAssignees = new HashMap<>();
+        for (Long assignedTo : assignees) {
+            UserRoles role = roles.get(assignedTo);
+            if (role == null) {
+                invalidAssignees.put(assignedTo, ASSIGNEE_NOT_FOUND + assignedTo);
+            } else if (!role.equals(EMPLOYEE)) {
+                invalidAssignees.put(assignedTo, TASK_NOT_ASSIGNED_TO_EMPLOYEE + role.getRoleName());
+            }
+        }
+        return invalidAssignees;
+    }
+
     public void checkIfUserWantsCreateAdmin(UserRoles role) {
         if(role.equals(ADMIN)) {
             throw new UnauthorizedAccessException(ADMIN_CREATION_NOT_ALLOWED);
         }
     }
 
+    // principals not built by JwtAuthTokenFilter are resolved by name, like tokens without the uid claim
+    public AuthenticatedUser findAuthenticatedPrincipal() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication.getPrincipal() instanceof AuthenticatedUser principal) {
+            return principal;
+        }
+        UserDto user = userService.findByEmail(authentication.getName());
+        return new AuthenticatedUser(user.id(), user.email(), user.role());
+    }
+
     public UserDto findAuthenticatedUser() {
-        return userService
-                .findByEmail(SecurityContextHolder
-                        .getContext()
-                        .getAuthentication()
-                        .getName());
+        return userService.findByEmail(findAuthenticatedPrincipal().email());
     }
 
     public UserResponseDto findAuthenticatedUserWithoutPassword() {
-        return UserMapper.mapToResponseFromDto(userService
-                .findByEmail(SecurityContextHolder
-                        .getContext()
-                        .getAuthentication()
-                        .getName()));
+        return userService.findById(findAuthenticatedPrincipal().id());
+    }
+
+    public void evictCachedRole(long userId) {
+        userRoleCache.evict(userId);
     }
 
     public void checkIfPasswordMatch(UpdatePasswordRequestDto passwords) {
@@ -5,40 +5,61 @@ import org.springframework.stereotype.Service;
 import pl.bartoszmech.application.response.CompletedTasksByAssignedToResponseDto;
 import pl.bartoszmech.application.response.CompletedTasksStatisticResponseDto;
 import pl.bartoszmech.application.response.UserResponseDto;
-import pl.bartoszmech.infrastructure.apivalidation.ResourceNotFound;
 
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
 
 @AllArgsConstructor
 @Service
 public class EmployeeAnalysisService {
 
+    private static final Comparator<CompletedTasksStatisticResponseDto> BY_COMPLETED_TASKS =
+            Comparator.comparingInt(CompletedTasksStatisticResponseDto::numberOfCompletedTasks);
+
     public List<CompletedTasksStatisticResponseDto> sortEmployeesByCompletedTasks(List<UserResponseDto> employees, List<CompletedTasksByAssignedToResponseDto>  tasks, int lastMonths) {
         List<CompletedTasksStatisticResponseDto> employeeStatisticDtoList = mapToEmployeeStatistics(tasks, employees);
         return sortEmployeeStatistics(employeeStatisticDtoList);
     }
 
+    public List<CompletedTasksStatisticResponseDto> findTopEmployeesByCompletedTasks(List<UserResponseDto> employees, List<CompletedTasksByAssignedToResponseDto> tasks, int limit) {
+        List<CompletedTasksStatisticResponseDto> employeeStatisticDtoList = mapToEmployeeStatistics(tasks, employees);
+        return selectTopEmployeeStatistics(employeeStatisticDtoList, limit);
+    }
+
     private List<CompletedTasksStatisticResponseDto> mapToEmployeeStatistics(List<CompletedTasksByAssignedToResponseDto> tasks, List<UserResponseDto> employees) {
+        Map<Long, UserResponseDto> employeesById = indexById(employees);
         return tasks
                 .stream()
-                .map(task -> fetchUser(task, employees))
+                .map(task -> new CompletedTasksStatisticResponseDto(employeesById.get(task.assignedTo()), task.numberOfCompletedTasks()))
                 .toList();
     }
 
-    private CompletedTasksStatisticResponseDto fetchUser(CompletedTasksByAssignedToResponseDto task, List<UserResponseDto> employees) {
-        UserResponseDto user = employees.stream()
-                .filter(employee -> employee.id().equals(task.assignedTo()))
-                .findFirst()
-                .orElse(null);
-        return new CompletedTasksStatisticResponseDto(user, task.numberOfCompletedTasks());
+    private Map<Long, UserResponseDto> indexById(List<UserResponseDto> employees) {
+        Map<Long, UserResponseDto> employeesById = new HashMap<>(employees.size() * 4 / 3 + 1);
+        employees.forEach(employee -> employeesById.putIfAbsent(employee.id(), employee));
+        return employeesById;
     }
 
     private List<CompletedTasksStatisticResponseDto> sortEmployeeStatistics(List<CompletedTasksStatisticResponseDto> employeeStatisticDtoList) {
         return employeeStatisticDtoList.stream()
-                .sorted(Comparator.comparing(CompletedTasksStatisticResponseDto::numberOfCompletedTasks)
-                        .reversed())
+                .sorted(BY_COMPLETED_TASKS.reversed())
                 .toList();
     }
 
+    private List<CompletedTasksStatisticResponseDto> selectTopEmployeeStatistics(List<CompletedTasksStatisticResponseDto> employeeStatisticDtoList, int limit) {
+        PriorityQueue<CompletedTasksStatisticResponseDto> topStatistics = new PriorityQueue<>(limit + 1, BY_COMPLETED_TASKS);
+        for (CompletedTasksStatisticResponseDto statistic : employeeStatisticDtoList) {
+            if (topStatistics.size() < limit) {
+                topStatistics.add(statistic);
+            } else if (statistic.numberOfCompletedTasks() > topStatistics.peek().numberOfCompletedTasks()) {
+                topStatistics.poll();
+                topStatistics.add(statistic);
+            }
+        }
+        return sortEmployeeStatistics(List.copyOf(topStatistics));
+    }
+
 }
@@ -0,0 +1,13 @@
+package pl.bartoszmech.application.services;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(value = "leaderboard.snapshot")
+public record LeaderboardProperties(
+
+        Duration maxAge,
+        long maxSize
+
+) {}
@@ -0,0 +1,123 @@
+package pl.bartoszmech.application.services;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.stereotype.Service;
+import pl.bartoszmech.application.response.CompletedTasksByAssignedToResponseDto;
+import pl.bartoszmech.application.response.CompletedTasksStatisticResponseDto;
+import pl.bartoszmech.application.response.UserResponseDto;
+import pl.bartoszmech.domain.task.service.TaskService;
+import pl.bartoszmech.domain.user.service.UserService;
+import pl.bartoszmech.infrastructure.datasource.PrimaryReads;
+import pl.bartoszmech.infrastructure.datasource.Workload;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Service
+public class LeaderboardService {
+
+    private final TaskService taskService;
+    private final UserService userService;
+    private final EmployeeAnalysisService employeeAnalysisService;
+    private final Clock clock;
+    private final LeaderboardProperties properties;
+    private final ConcurrentMap<LeaderboardKey, CompletableFuture<LeaderboardSnapshot>> snapshots;
+    private final AtomicLong generation = new AtomicLong();
+
+    public LeaderboardService(TaskService taskService, UserService userService, EmployeeAnalysisService employeeAnalysisService,
+                              Clock clock, LeaderboardProperties properties) {
+        this.taskService = taskService;
+        this.userService = userService;
+        this.employeeAnalysisService = employeeAnalysisService;
+        this.clock = clock;
+        this.properties = properties;
+        // bounded, so looping over parameters cannot pin one snapshot per combination, and stale entries expire unread
+        this.snapshots = Caffeine.newBuilder()
+                .maximumSize(properties.maxSize())
+                .expireAfterWrite(properties.maxAge())
+                .<LeaderboardKey, CompletableFuture<LeaderboardSnapshot>>build()
+                .asMap();
+    }
+
+    public LeaderboardSnapshot getLeaderboard(int lastMonths, Integer limit) {
+        LeaderboardKey key = new LeaderboardKey(lastMonths, limit);
+        while (true) {
+            CompletableFuture<LeaderboardSnapshot> current = snapshots.get(key);
+            if (current != null && !isStale(current)) {
+                return await(current);
+            }
+            CompletableFuture<LeaderboardSnapshot> refresh = new CompletableFuture<>();
+            boolean claimed = current == null
+                    ? snapshots.putIfAbsent(key, refresh) == null
+                    : snapshots.replace(key, current, refresh);
+            if (claimed) {
+                return refresh(key, refresh);
+            }
+        }
+    }
+
+    public Duration ageOf(LeaderboardSnapshot snapshot) {
+        return Duration.between(snapshot.computedAt(), Instant.now(clock));
+    }
+
+    public void invalidate() {
+        generation.incrementAndGet();
+        snapshots.clear();
+    }
+
+    private LeaderboardSnapshot refresh(LeaderboardKey key, CompletableFuture<LeaderboardSnapshot> refresh) {
+        try {
+            long computedGeneration = generation.get();
+            Instant computedAt = Instant.now(clock);
+            refresh.complete(new LeaderboardSnapshot(computeStatistics(key), computedAt, computedGeneration));
+        } catch (RuntimeException e) {
+            snapshots.remove(key, refresh);
+            refresh.completeExceptionally(e);
+        }
+        return await(refresh);
+    }
+
+    private List<CompletedTasksStatisticResponseDto> computeStatistics(LeaderboardKey key) {
+        List<CompletedTasksByAssignedToResponseDto> completedTasks;
+        List<UserResponseDto> employees;
+        // read from the primary, a lagging replica would miss a completion that just invalidated the snapshots
+        try (Workload.Scope ignored = Workload.ANALYTICS.enter(); Workload.Scope primary = PrimaryReads.enter()) {
+            completedTasks = taskService.getCompletedTasksByAssignedTo(key.lastMonths());
+            employees = userService.listEmployees();
+        }
+        return key.limit() == null
+                ? employeeAnalysisService.sortEmployeesByCompletedTasks(employees, completedTasks, key.lastMonths())
+                : employeeAnalysisService.findTopEmployeesByCompletedTasks(employees, completedTasks, key.limit());
+    }
+
+    private boolean isStale(CompletableFuture<LeaderboardSnapshot> snapshot) {
+        if (!snapshot.isDone()) {
+            return false;
+        }
+        if (snapshot.isCompletedExceptionally()) {
+            return true;
+        }
+        LeaderboardSnapshot computed = snapshot.join();
+        return computed.generation() != generation.get() || ageOf(computed).compareTo(properties.maxAge()) > 0;
+    }
+
+    private LeaderboardSnapshot await(CompletableFuture<LeaderboardSnapshot> snapshot) {
+        try {
+            return snapshot.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private record LeaderboardKey(int lastMonths, Integer limit) {}
+
+}
@@ -0,0 +1,14 @@
+package pl.bartoszmech.application.services;
+
+import pl.bartoszmech.application.response.CompletedTasksStatisticResponseDto;
+
+import java.time.Instant;
+import java.util.List;
+
+public record LeaderboardSnapshot(
+
+        List<CompletedTasksStatisticResponseDto> statistics,
+        Instant computedAt,
+        long generation
+
+) {}
@@ -0,0 +1,140 @@
+package pl.bartoszmech.application.services;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.AllArgsConstructor;
+import org.springframework.stereotype.Service;
+import pl.bartoszmech.application.request.CreateAndUpdateTaskRequestDto;
+import pl.bartoszmech.application.response.BulkTaskResponseDto;
+import pl.bartoszmech.application.response.BulkTaskResultDto;
+import pl.bartoszmech.domain.task.DuplicateUserTaskException;
+import pl.bartoszmech.domain.task.service.TaskService;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+@Service
+@AllArgsConstructor
+public class TaskBulkImportService {
+
+    static final int CHUNK_SIZE = 500;
+    static final String NULL_TASK = "Task must not be null.";
+    static final String MALFORMED_REQUEST = "Malformed request body, expected JSON array of tasks: ";
+
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final AuthorizationService authorizationService;
+    private final TaskService taskService;
+
+    public BulkTaskResponseDto importTasks(InputStream body) {
+        List<BulkTaskResultDto> results = new ArrayList<>();
+        List<CreateAndUpdateTaskRequestDto> chunk = new ArrayList<>(CHUNK_SIZE);
+        int index = 0;
+        try (JsonParser parser = objectMapper.getFactory().createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new IOException("request body is not an array");
+            }
+            while (parser.nextToken() != JsonToken.END_ARRAY) {
+                chunk.add(parser.readValueAs(CreateAndUpdateTaskRequestDto.class));
+                index++;
+                if (chunk.size() == CHUNK_SIZE) {
+                    results.addAll(importChunk(index - chunk.size(), chunk));
+                    chunk.clear();
+                }
+            }
+        } catch (IOException e) {
+            results.addAll(importChunk(index - chunk.size(), chunk));
+            results.add(BulkTaskResultDto.rejected(index, List.of(MALFORMED_REQUEST + describe(e))));
+            return summarize(results);
+        }
+        results.addAll(importChunk(index - chunk.size(), chunk));
+        return summarize(results);
+    }
+
+    private List<BulkTaskResultDto> importChunk(int firstIndex, List<CreateAndUpdateTaskRequestDto> chunk) {
+        if (chunk.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, String> invalidAssignees = authorizationService.findInvalidTaskAssignees(chunk.stream()
+                .filter(Objects::nonNull)
+                .map(CreateAndUpdateTaskRequestDto::assignedTo)
+                .filter(assignedTo -> assignedTo != null && assignedTo > 0)
+                .collect(Collectors.toSet()));
+        BulkTaskResultDto[] results = new BulkTaskResultDto[chunk.size()];
+        List<Integer> acceptedPositions = new ArrayList<>();
+        List<CreateAndUpdateTaskRequestDto> acceptedTasks = new ArrayList<>();
+        for (int position = 0; position < chunk.size(); position++) {
+            List<String> errors = findErrors(chunk.get(position), invalidAssignees);
+            if (errors.isEmpty()) {
+                acceptedPositions.add(position);
+                acceptedTasks.add(chunk.get(position));
+            } else {
+                results[position] = BulkTaskResultDto.rejected(firstIndex + position, errors);
+            }
+        }
+        if (!acceptedTasks.isEmpty()) {
+            for (BulkTaskResultDto result : createTasks(acceptedTasks)) {
+                int position = acceptedPositions.get(result.index());
+                results[position] = new BulkTaskResultDto(firstIndex + position, result.task(), result.errors());
+            }
+        }
+        return List.of(results);
+    }
+
+    // a concurrent insert can take an assignment after createTasks checked it, the unique constraint then rolls back
+    // the whole chunk, so it is retried one task per transaction and only the tasks that lost the race are rejected
+    private List<BulkTaskResultDto> createTasks(List<CreateAndUpdateTaskRequestDto> tasks) {
+        try {
+            return taskService.createTasks(tasks);
+        } catch (DuplicateUserTaskException e) {
+            List<BulkTaskResultDto> results = new ArrayList<>(tasks.size());
+            for (int index = 0; index < tasks.size(); index++) {
+                results.add(createTask(index, tasks.get(index)));
+            }
+            return results;
+        }
+    }
+
+    private BulkTaskResultDto createTask(int index, CreateAndUpdateTaskRequestDto task) {
+        try {
+            BulkTaskResultDto result = taskService.createTasks(List.of(task)).get(0);
+            return new BulkTaskResultDto(index, result.task(), result.errors());
+        } catch (DuplicateUserTaskException e) {
+            return BulkTaskResultDto.rejected(index, List.of(e.getMessage()));
+        }
+    }
+
+    private List<String> findErrors(CreateAndUpdateTaskRequestDto task, Map<Long, String> invalidAssignees) {
+        if (task == null) {
+            return List.of(NULL_TASK);
+        }
+        List<String> errors = validator.validate(task).stream()
+                .map(ConstraintViolation::getMessage)
+                .sorted()
+                .collect(Collectors.toCollection(ArrayList::new));
+        String assigneeError = invalidAssignees.get(task.assignedTo());
+        if (assigneeError != null) {
+            errors.add(assigneeError);
+        }
+        return errors;
+    }
+
+    private String describe(IOException e) {
+        return e instanceof JsonProcessingException jsonException ? jsonException.getOriginalMessage() : e.getMessage();
+    }
+
+    private BulkTaskResponseDto summarize(List<BulkTaskResultDto> results) {
+        int created = (int) results.stream().filter(BulkTaskResultDto::isCreated).count();
+        return new BulkTaskResponseDto(created, results.size() - created, results);
+    }
+
+}
@@ -0,0 +1,19 @@
+package pl.bartoszmech.application.services;
+
+import lombok.Getter;
+
+@Getter
+public enum TaskExportFormat {
+
+    NDJSON("application/x-ndjson", "tasks.ndjson"),
+    CSV("text/csv", "tasks.csv");
+
+    private final String mediaType;
+    private final String fileName;
+
+    TaskExportFormat(String mediaType, String fileName) {
+        this.mediaType = mediaType;
+        this.fileName = fileName;
+    }
+
+}
@@ -0,0 +1,90 @@
+package pl.bartoszmech.application.services;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.springframework.stereotype.Service;
+import pl.bartoszmech.domain.task.Task;
+import pl.bartoszmech.domain.task.TaskExportFilter;
+import pl.bartoszmech.domain.task.TaskMapper;
+import pl.bartoszmech.domain.task.repository.TaskExportRepository;
+import pl.bartoszmech.infrastructure.datasource.Workload;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+@Service
+public class TaskExportService {
+
+    private static final int FLUSH_EVERY_ROWS = 500;
+    private static final String CSV_HEADER = "id,title,description,status,startDate,endDate,completedAt,assignedTo";
+
+    private final TaskExportRepository repository;
+    private final ObjectWriter jsonWriter;
+
+    public TaskExportService(TaskExportRepository repository, ObjectMapper objectMapper) {
+        this.repository = repository;
+        this.jsonWriter = objectMapper.writer();
+    }
+
+    public void export(TaskExportFilter filter, TaskExportFormat format, OutputStream outputStream) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        if (format == TaskExportFormat.CSV) {
+            writer.write(CSV_HEADER);
+            writer.write('\n');
+        }
+        int[] writtenRows = {0};
+        try (Workload.Scope ignored = Workload.ANALYTICS.enter()) {
+            repository.streamTasks(filter, task -> {
+                try {
+                    writeTask(writer, task, format);
+                    if (++writtenRows[0] % FLUSH_EVERY_ROWS == 0) {
+                        writer.flush();
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        writer.flush();
+    }
+
+    private void writeTask(Writer writer, Task task, TaskExportFormat format) throws IOException {
+        if (format == TaskExportFormat.CSV) {
+            writer.write(toCsvRow(task));
+        } else {
+            writer.write(jsonWriter.writeValueAsString(TaskMapper.mapFromTask(task)));
+        }
+        writer.write('\n');
+    }
+
+    private String toCsvRow(Task task) {
+        return String.join(",", Stream.of(
+                        task.getId(),
+                        task.getTitle(),
+                        task.getDescription(),
+                        task.getStatus(),
+                        task.getStartDate(),
+                        task.getEndDate(),
+                        task.getCompletedAt(),
+                        task.getAssignedTo())
+                .map(value -> escapeCsv(Objects.toString(value, "")))
+                .toList());
+    }
+
+    private String escapeCsv(String value) {
+        if (value.contains(",") || value.contains("\"") || value.contains("\n") || value.contains("\r")) {
+            return "\"" + value.replace("\"", "\"\"") + "\"";
+        }
+        return value;
+    }
+
+}
@@ -0,0 +1,25 @@
+package pl.bartoszmech.application.services;
+
+import lombok.AllArgsConstructor;
+import org.springframework.stereotype.Service;
+import pl.bartoszmech.application.response.TaskResponseDto;
+import pl.bartoszmech.domain.task.TaskMapper;
+import pl.bartoszmech.domain.task.TaskStatus;
+import pl.bartoszmech.domain.task.repository.TaskStreamRepository;
+import reactor.core.publisher.Flux;
+
+@Service
+@AllArgsConstructor
+public class TaskStreamService {
+
+    private final TaskStreamRepository repository;
+
+    public Flux<TaskResponseDto> streamTasks(TaskStatus status) {
+        return repository.streamTasks(status).map(TaskMapper::mapFromTask);
+    }
+
+    public Flux<TaskResponseDto> streamEmployeeTasks(long employeeId) {
+        return repository.streamTasksByAssignedTo(employeeId).map(TaskMapper::mapFromTask);
+    }
+
+}
@@ -0,0 +1,74 @@
+package pl.bartoszmech.application.services;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.AllArgsConstructor;
+import org.springframework.stereotype.Service;
+import pl.bartoszmech.application.request.CreateUserDto;
+import pl.bartoszmech.application.response.BulkUserResponseDto;
+import pl.bartoszmech.application.response.BulkUserResultDto;
+import pl.bartoszmech.domain.user.service.UserService;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static pl.bartoszmech.application.services.AuthorizationService.ADMIN_CREATION_NOT_ALLOWED;
+import static pl.bartoszmech.domain.user.UserRoles.ADMIN;
+
+@Service
+@AllArgsConstructor
+public class UserBulkImportService {
+
+    static final int CHUNK_SIZE = 500;
+    static final String NULL_USER = "User must not be null.";
+
+    private final Validator validator;
+    private final UserService userService;
+
+    public BulkUserResponseDto importUsers(List<CreateUserDto> users) {
+        List<BulkUserResultDto> results = new ArrayList<>(users.size());
+        for (int firstIndex = 0; firstIndex < users.size(); firstIndex += CHUNK_SIZE) {
+            results.addAll(importChunk(firstIndex, users.subList(firstIndex, Math.min(firstIndex + CHUNK_SIZE, users.size()))));
+        }
+        int created = (int) results.stream().filter(BulkUserResultDto::isCreated).count();
+        return new BulkUserResponseDto(created, results.size() - created, results);
+    }
+
+    private List<BulkUserResultDto> importChunk(int firstIndex, List<CreateUserDto> chunk) {
+        BulkUserResultDto[] results = new BulkUserResultDto[chunk.size()];
+        List<Integer> acceptedPositions = new ArrayList<>();
+        List<CreateUserDto> acceptedUsers = new ArrayList<>();
+        for (int position = 0; position < chunk.size(); position++) {
+            List<String> errors = findErrors(chunk.get(position));
+            if (errors.isEmpty()) {
+                acceptedPositions.add(position);
+                acceptedUsers.add(chunk.get(position));
+            } else {
+                results[position] = BulkUserResultDto.rejected(firstIndex + position, errors);
+            }
+        }
+        if (!acceptedUsers.isEmpty()) {
+            for (BulkUserResultDto result : userService.createUsers(acceptedUsers)) {
+                int position = acceptedPositions.get(result.index());
+                results[position] = new BulkUserResultDto(firstIndex + position, result.user(), result.errors());
+            }
+        }
+        return List.of(results);
+    }
+
+    private List<String> findErrors(CreateUserDto user) {
+        if (user == null) {
+            return List.of(NULL_USER);
+        }
+        List<String> errors = validator.validate(user).stream()
+                .map(ConstraintViolation::getMessage)
+                .sorted()
+                .collect(Collectors.toCollection(ArrayList::new));
+        if (user.role() == ADMIN) {
+            errors.add(ADMIN_CREATION_NOT_ALLOWED);
+        }
+        return errors;
+    }
+
+}
@@ -0,0 +1,8 @@
+package pl.bartoszmech.domain.task;
+
+public record CompletedTasksCount(
+
+        Long assignedTo,
+        long completedTasks
+
+) {}
@@ -1,6 +1,8 @@
 package pl.bartoszmech.domain.task;
 
 public class DuplicateUserTaskException extends RuntimeException{
+    public static final String TASK_DUPLICATE = "Provided task is already assigned to this same user";
+
     public DuplicateUserTaskException(String message) {
         super(message);
     }
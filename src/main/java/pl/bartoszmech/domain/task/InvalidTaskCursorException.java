@@ -0,0 +1,7 @@
+package pl.bartoszmech.domain.task;
+
+public class InvalidTaskCursorException extends RuntimeException {
+    public InvalidTaskCursorException(String message) {
+        super(message);
+    }
+}
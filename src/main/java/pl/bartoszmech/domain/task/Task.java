@@ -5,23 +5,39 @@ import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import jakarta.persistence.Version;
 import lombok.Getter;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.time.LocalDateTime;
 import java.util.Objects;
 
-import static jakarta.persistence.GenerationType.IDENTITY;
+import static jakarta.persistence.GenerationType.SEQUENCE;
 import static pl.bartoszmech.domain.task.TaskStatus.FAILED;
 
 
 @Getter
 @Entity
-@Table(name = "tasks")
+@Table(name = "tasks", indexes = {
+        @Index(name = "idx_tasks_end_date_id", columnList = "end_date, id"),
+        @Index(name = "idx_tasks_assigned_to_id", columnList = "assigned_to, id"),
+        @Index(name = "idx_tasks_status_end_date", columnList = "status, end_date")
+}, uniqueConstraints = {
+        @UniqueConstraint(name = Task.ASSIGNED_TO_TITLE_CONSTRAINT, columnNames = {"assigned_to", "title"})
+})
 public class Task {
 
+    public static final String ASSIGNED_TO_TITLE_CONSTRAINT = "uk_tasks_assigned_to_title";
+    public static final String ID_SEQUENCE = "tasks_seq";
+    public static final int ID_ALLOCATION_SIZE = 50;
+
     @Id
-    @GeneratedValue(strategy = IDENTITY)
+    @GeneratedValue(strategy = SEQUENCE, generator = ID_SEQUENCE)
+    @SequenceGenerator(name = ID_SEQUENCE, sequenceName = ID_SEQUENCE, allocationSize = ID_ALLOCATION_SIZE)
     private Long id;
     private String title;
     private String description;
@@ -31,9 +47,15 @@ public class Task {
     private LocalDateTime endDate;
     private LocalDateTime completedAt;
     private Long assignedTo;
-
+    @Version
+    @ColumnDefault("0")
+    private Long version;
 
     public Task(Long id, String title, String description, TaskStatus status, LocalDateTime startDate, LocalDateTime endDate, LocalDateTime completedAt, Long assignedTo) {
+        this(id, title, description, status, startDate, endDate, completedAt, assignedTo, null);
+    }
+
+    public Task(Long id, String title, String description, TaskStatus status, LocalDateTime startDate, LocalDateTime endDate, LocalDateTime completedAt, Long assignedTo, Long version) {
         this.id = id;
         this.title = title;
         this.description = description;
@@ -42,6 +64,7 @@ public class Task {
         this.endDate = endDate;
         this.completedAt = completedAt;
         this.assignedTo = assignedTo;
+        this.version = version;
     }
 
     public Task() {}
@@ -65,6 +88,7 @@ public class Task {
                 ", endDate=" + endDate +
                 ", completedAt=" + completedAt +
                 ", assignedTo=" + assignedTo +
+                ", version=" + version +
                 '}';
     }
 
@@ -0,0 +1,8 @@
+package pl.bartoszmech.domain.task;
+
+public record TaskAssignment(
+
+        Long assignedTo,
+        String title
+
+) {}
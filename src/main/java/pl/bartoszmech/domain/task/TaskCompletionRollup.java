@@ -0,0 +1,42 @@
+package pl.bartoszmech.domain.task;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import static jakarta.persistence.GenerationType.IDENTITY;
+
+@Getter
+@Entity
+@Table(name = "task_completion_rollups", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_task_completion_rollups_assigned_to_month", columnNames = {"assigned_to", "month_start"})
+})
+public class TaskCompletionRollup {
+
+    @Id
+    @GeneratedValue(strategy = IDENTITY)
+    private Long id;
+    private Long assignedTo;
+    private LocalDate monthStart;
+    private long completedTasks;
+
+    public TaskCompletionRollup(Long id, Long assignedTo, LocalDate monthStart, long completedTasks) {
+        this.id = id;
+        this.assignedTo = assignedTo;
+        this.monthStart = monthStart;
+        this.completedTasks = completedTasks;
+    }
+
+    public TaskCompletionRollup() {}
+
+    public static LocalDate monthOf(LocalDateTime dateTime) {
+        return dateTime.toLocalDate().withDayOfMonth(1);
+    }
+
+}
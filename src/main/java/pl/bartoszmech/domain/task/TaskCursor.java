@@ -0,0 +1,45 @@
+package pl.bartoszmech.domain.task;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+public record TaskCursor(
+
+        TaskPageOrder order,
+        Long id,
+        LocalDateTime endDate
+
+) {
+
+    private static final String INVALID_CURSOR = "Provided cursor is invalid or does not match requested order";
+    private static final String SEPARATOR = "|";
+
+    public static TaskCursor of(TaskPageOrder order, Task task) {
+        return new TaskCursor(order, task.getId(), task.getEndDate());
+    }
+
+    public static TaskCursor decode(String cursor, TaskPageOrder expectedOrder) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split("\\" + SEPARATOR);
+            TaskPageOrder order = TaskPageOrder.valueOf(parts[0]);
+            if (order != expectedOrder) {
+                throw new InvalidTaskCursorException(INVALID_CURSOR);
+            }
+            LocalDateTime endDate = order == TaskPageOrder.END_DATE ? LocalDateTime.parse(parts[2]) : null;
+            return new TaskCursor(order, Long.parseLong(parts[1]), endDate);
+        } catch (IllegalArgumentException | ArrayIndexOutOfBoundsException | DateTimeParseException e) {
+            throw new InvalidTaskCursorException(INVALID_CURSOR);
+        }
+    }
+
+    public String encode() {
+        String position = order + SEPARATOR + id + SEPARATOR + endDate;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(position.getBytes(StandardCharsets.UTF_8));
+    }
+
+}
@@ -0,0 +1,10 @@
+package pl.bartoszmech.domain.task;
+
+import java.time.LocalDateTime;
+
+public record TaskDeadline(
+
+        Long id,
+        LocalDateTime endDate
+
+) {}
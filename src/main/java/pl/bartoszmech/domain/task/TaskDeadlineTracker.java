@@ -0,0 +1,10 @@
+package pl.bartoszmech.domain.task;
+
+import java.time.LocalDateTime;
+
+public interface TaskDeadlineTracker {
+
+    void track(Long taskId, LocalDateTime endDate);
+    void untrack(Long taskId);
+
+}
@@ -0,0 +1,12 @@
+package pl.bartoszmech.domain.task;
+
+import java.time.LocalDateTime;
+
+public record TaskExportFilter(
+
+        TaskStatus status,
+        Long assignedTo,
+        LocalDateTime endAfter,
+        LocalDateTime endBefore
+
+) {}
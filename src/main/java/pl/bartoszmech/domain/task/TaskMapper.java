@@ -21,6 +21,7 @@ public class TaskMapper {
                 .endDate(reducePrecisionToSeconds(savedTask.getEndDate()))
                 .completedAt(savedTask.getCompletedAt())
                 .assignedTo(savedTask.getAssignedTo())
+                .version(savedTask.getVersion())
                 .build();
     }
 
@@ -33,7 +34,8 @@ public class TaskMapper {
                 taskDto.startDate(),
                 taskDto.endDate(),
                 taskDto.completedAt(),
-                taskDto.assignedTo()
+                taskDto.assignedTo(),
+                taskDto.version()
         );
     }
 
@@ -71,6 +73,7 @@ public class TaskMapper {
                 .completedAt(persistedTask.completedAt())
                 .status(persistedTask.status())
                 .assignedTo(requestedTask.assignedTo())
+                .version(persistedTask.version())
                 .build();
     }
 
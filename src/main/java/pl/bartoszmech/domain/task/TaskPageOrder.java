@@ -0,0 +1,8 @@
+package pl.bartoszmech.domain.task;
+
+public enum TaskPageOrder {
+
+    ID,
+    END_DATE
+
+}
@@ -0,0 +1,15 @@
+package pl.bartoszmech.domain.task.repository;
+
+import pl.bartoszmech.domain.task.CompletedTasksCount;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface TaskCompletionRollupRepository {
+
+    void addCompletedTasks(Long assignedTo, LocalDate monthStart, long delta);
+    List<CompletedTasksCount> sumCompletedByAssignedToFromMonth(LocalDate monthStart);
+    long countDrift();
+    void rebuild();
+
+}
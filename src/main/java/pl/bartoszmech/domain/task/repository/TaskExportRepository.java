@@ -0,0 +1,12 @@
+package pl.bartoszmech.domain.task.repository;
+
+import pl.bartoszmech.domain.task.Task;
+import pl.bartoszmech.domain.task.TaskExportFilter;
+
+import java.util.function.Consumer;
+
+public interface TaskExportRepository {
+
+    void streamTasks(TaskExportFilter filter, Consumer<Task> consumer);
+
+}
@@ -4,8 +4,15 @@ import org.springframework.data.domain.Example;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import pl.bartoszmech.domain.task.CompletedTasksCount;
 import pl.bartoszmech.domain.task.Task;
+import pl.bartoszmech.domain.task.TaskAssignment;
+import pl.bartoszmech.domain.task.TaskCursor;
+import pl.bartoszmech.domain.task.TaskDeadline;
+import pl.bartoszmech.domain.task.TaskPageOrder;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.Random;
@@ -15,6 +22,21 @@ public interface TaskRepository {
     Task save(Task entity);
     Optional<Task> findById(Long id);
     List<Task> findAll();
+    List<Task> findPage(TaskPageOrder order, TaskCursor after, int limit);
+    List<Task> findByAssignedTo(Long assignedTo);
+    List<Task> findPageByAssignedTo(Long assignedTo, TaskPageOrder order, TaskCursor after, int limit);
+    List<Task> findAllByAssignedToAndIdIn(Long assignedTo, Collection<Long> ids);
+    Optional<LocalDateTime> completePendingTask(Long id, Long assignedTo, LocalDateTime now);
+    List<Long> completePendingTasks(Long assignedTo, Collection<Long> ids, LocalDateTime now);
+    boolean existsByAssignedToAndTitle(Long assignedTo, String title);
+    boolean existsByAssignedToAndTitleAndIdNot(Long assignedTo, String title, Long id);
+    List<TaskAssignment> findAssignments(Collection<Long> assignees, Collection<String> titles);
+    List<Task> saveAll(List<Task> tasks);
+    int failOutdatedPendingTasks(LocalDateTime now, int limit);
+    int failOutdatedPendingTasksBetween(LocalDateTime now, Long fromId, Long toId);
+    List<TaskDeadline> findPendingDeadlinesBefore(LocalDateTime until);
+    int failPendingTasksDueBefore(List<Long> ids, LocalDateTime now);
+    List<CompletedTasksCount> countCompletedByAssignedToEndingBetween(LocalDateTime after, LocalDateTime before);
     void deleteById(Long id);
 
 }
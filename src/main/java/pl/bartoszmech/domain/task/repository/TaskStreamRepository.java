@@ -0,0 +1,13 @@
+package pl.bartoszmech.domain.task.repository;
+
+import pl.bartoszmech.domain.task.Task;
+import pl.bartoszmech.domain.task.TaskStatus;
+import reactor.core.publisher.Flux;
+
+public interface TaskStreamRepository {
+
+    Flux<Task> streamTasks(TaskStatus status);
+
+    Flux<Task> streamTasksByAssignedTo(Long assignedTo);
+
+}
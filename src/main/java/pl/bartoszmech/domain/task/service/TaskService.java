@@ -1,22 +1,37 @@
 package pl.bartoszmech.domain.task.service;
 
+import pl.bartoszmech.application.response.BulkTaskResultDto;
 import pl.bartoszmech.application.response.CompletedTasksByAssignedToResponseDto;
 import pl.bartoszmech.application.request.CreateAndUpdateTaskRequestDto;
+import pl.bartoszmech.application.response.TaskCompletionResponseDto;
 import pl.bartoszmech.application.response.TaskInfoResponseDto;
+import pl.bartoszmech.application.response.TaskPageResponseDto;
 import pl.bartoszmech.application.response.TaskResponseDto;
+import pl.bartoszmech.domain.task.TaskPageOrder;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 public interface TaskService {
 
     TaskResponseDto createTask(CreateAndUpdateTaskRequestDto taskRequestDto);
+
+    List<BulkTaskResultDto> createTasks(List<CreateAndUpdateTaskRequestDto> requestedTasks);
     List<TaskResponseDto> listTasks();
+    TaskPageResponseDto listTasks(String cursor, int limit, TaskPageOrder order);
     TaskResponseDto findById(long id);
     TaskResponseDto deleteById(long id);
     TaskResponseDto updateTask(long id, CreateAndUpdateTaskRequestDto taskRequestDto);
+
+    TaskResponseDto updateTask(long id, CreateAndUpdateTaskRequestDto taskRequestDto, Long expectedVersion);
     List<TaskResponseDto> listEmployeeTasks(long id);
+    TaskPageResponseDto listEmployeeTasks(long id, String cursor, int limit, TaskPageOrder order);
     TaskInfoResponseDto completeTask(long id);
+    TaskInfoResponseDto completeAssignedTask(long assignedTo, long id);
+    List<TaskCompletionResponseDto> completeTasks(long assignedTo, Collection<Long> ids);
     List<CompletedTasksByAssignedToResponseDto> getCompletedTasksByAssignedTo(int lastMonths);
-    void markAsFailedOutdatedTasks();
+    int markAsFailedOutdatedTasks();
+    int markAsFailedOutdatedTasks(Long fromId, Long toId, LocalDateTime dueBefore);
 
 }
@@ -4,52 +4,107 @@ import lombok.AllArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.springframework.transaction.annotation.Transactional;
 import pl.bartoszmech.application.request.CreateAndUpdateTaskRequestDto;
+import pl.bartoszmech.application.response.BulkTaskResultDto;
 import pl.bartoszmech.application.response.CompletedTasksByAssignedToResponseDto;
+import pl.bartoszmech.application.response.TaskCompletionResponseDto;
 import pl.bartoszmech.application.response.TaskInfoResponseDto;
+import pl.bartoszmech.application.response.TaskPageResponseDto;
 import pl.bartoszmech.application.response.TaskResponseDto;
 
+import pl.bartoszmech.domain.task.CompletedTasksCount;
 import pl.bartoszmech.domain.task.DuplicateUserTaskException;
 import pl.bartoszmech.domain.task.EndDateBeforeStartDateException;
 import pl.bartoszmech.domain.task.Task;
+import pl.bartoszmech.domain.task.TaskAssignment;
+import pl.bartoszmech.domain.task.TaskCompletionRollup;
+import pl.bartoszmech.domain.task.TaskCursor;
+import pl.bartoszmech.domain.task.TaskDeadlineTracker;
 import pl.bartoszmech.domain.task.TaskMapper;
+import pl.bartoszmech.domain.task.TaskPageOrder;
 import pl.bartoszmech.domain.task.TaskStatus;
+import pl.bartoszmech.domain.task.repository.TaskCompletionRollupRepository;
 import pl.bartoszmech.domain.task.repository.TaskRepository;
+import pl.bartoszmech.infrastructure.apivalidation.EntityVersionTag;
+import pl.bartoszmech.infrastructure.apivalidation.PreconditionFailed;
 import pl.bartoszmech.infrastructure.apivalidation.ResourceNotFound;
+import pl.bartoszmech.infrastructure.auth.error.UnauthorizedAccessException;
 
 import java.time.Clock;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
+import static org.springframework.http.HttpStatus.NOT_FOUND;
 import static pl.bartoszmech.application.response.TaskInfoResponseDto.TASK_COMPLETED;
 import static pl.bartoszmech.application.response.TaskInfoResponseDto.TASK_OUTDATED;
 import static pl.bartoszmech.application.response.TaskInfoResponseDto.TASK_ALREADY_COMPLETED;
 import static pl.bartoszmech.domain.task.TaskStatus.COMPLETED;
 import static pl.bartoszmech.domain.task.TaskStatus.FAILED;
 import static pl.bartoszmech.domain.task.TaskStatus.PENDING;
+import static pl.bartoszmech.domain.task.DuplicateUserTaskException.TASK_DUPLICATE;
 
 
 @AllArgsConstructor
 @Log4j2
 public class TaskServiceImpl implements TaskService {
 
-    private static final String TASK_DUPLICATE = "Provided task is already assigned to this same user";
     private  static final String INVALID_DATE_ORDER = "Provided invalid dates order";
+    private static final String TASK_NOT_ASSIGNED_TO_EMPLOYEE = "You dont have permission to complete task with id: ";
     private static final String TASK_NOT_FOUND = "Task with provided id could not be found";
+    private static final int FAIL_OUTDATED_CHUNK_SIZE = 500;
     private final TaskRepository repository;
     private final Clock clock;
+    private final TaskDeadlineTracker deadlineTracker;
+    private final TaskCompletionRollupRepository rollupRepository;
 
     @Override
     public TaskResponseDto createTask(CreateAndUpdateTaskRequestDto requestedTask) {
         TaskResponseDto inputTask = TaskMapper.mapFromCreateAndUpdateRequestDto(requestedTask, getNow());
         validateIfTaskCanBeCreated(inputTask);
         return TaskMapper.mapFromTask(
-                repository.save(TaskMapper.mapToTask(inputTask))
+                trackDeadline(repository.save(TaskMapper.mapToTask(inputTask)))
         );
     }
 
     @Override
+    @Transactional
+    public List<BulkTaskResultDto> createTasks(List<CreateAndUpdateTaskRequestDto> requestedTasks) {
+        LocalDateTime now = getNow();
+        List<TaskResponseDto> inputTasks = requestedTasks.stream()
+                .map(requestedTask -> TaskMapper.mapFromCreateAndUpdateRequestDto(requestedTask, now))
+                .toList();
+        Set<TaskAssignment> takenAssignments = findTakenAssignments(inputTasks);
+        List<String> errors = new ArrayList<>(inputTasks.size());
+        List<Task> tasksToSave = new ArrayList<>();
+        for (TaskResponseDto inputTask : inputTasks) {
+            String error = findCreationError(inputTask, takenAssignments);
+            errors.add(error);
+            if (error == null) {
+                tasksToSave.add(TaskMapper.mapToTask(inputTask));
+            }
+        }
+        Iterator<Task> savedTasks = repository.saveAll(tasksToSave).iterator();
+        List<BulkTaskResultDto> results = new ArrayList<>(inputTasks.size());
+        for (int index = 0; index < inputTasks.size(); index++) {
+            results.add(errors.get(index) == null
+                    ? BulkTaskResultDto.created(index, TaskMapper.mapFromTask(trackDeadline(savedTasks.next())))
+                    : BulkTaskResultDto.rejected(index, List.of(errors.get(index))));
+        }
+        return results;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
     public List<TaskResponseDto> listTasks() {
         return repository
                 .findAll()
@@ -59,13 +114,29 @@ public class TaskServiceImpl implements TaskService {
     }
 
     @Override
+    @Transactional(readOnly = true)
+    public TaskPageResponseDto listTasks(String cursor, int limit, TaskPageOrder order) {
+        TaskCursor after = TaskCursor.decode(cursor, order);
+        return toPage(repository.findPage(order, after, limit + 1), limit, order);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
     public List<TaskResponseDto> listEmployeeTasks(long id) {
-        return listTasks()
+        return repository
+                .findByAssignedTo(id)
                 .stream()
-                .filter(task -> task.assignedTo().equals(id))
+                .map(TaskMapper::mapFromTask)
                 .toList();
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public TaskPageResponseDto listEmployeeTasks(long id, String cursor, int limit, TaskPageOrder order) {
+        TaskCursor after = TaskCursor.decode(cursor, order);
+        return toPage(repository.findPageByAssignedTo(id, order, after, limit + 1), limit, order);
+    }
+
     @Override
     @Transactional
     public TaskInfoResponseDto completeTask(long id) {
@@ -73,6 +144,8 @@ public class TaskServiceImpl implements TaskService {
         TaskStatus status = task.getStatus();
         if (status.equals(PENDING)) {
             task.complete(getNow());
+            rollupRepository.addCompletedTasks(task.getAssignedTo(), TaskCompletionRollup.monthOf(task.getEndDate()), 1);
+            deadlineTracker.untrack(id);
             return TASK_COMPLETED();
         }
         if (status.equals(FAILED)) {
@@ -81,6 +154,45 @@ public class TaskServiceImpl implements TaskService {
         return TASK_ALREADY_COMPLETED();
     }
 
+    @Override
+    @Transactional
+    public TaskInfoResponseDto completeAssignedTask(long assignedTo, long id) {
+        Optional<LocalDateTime> completedEndDate = repository.completePendingTask(id, assignedTo, getNow());
+        if (completedEndDate.isPresent()) {
+            rollupRepository.addCompletedTasks(assignedTo, TaskCompletionRollup.monthOf(completedEndDate.get()), 1);
+            deadlineTracker.untrack(id);
+            return TASK_COMPLETED();
+        }
+        Task task = findEntityById(id);
+        if (!task.getAssignedTo().equals(assignedTo)) {
+            throw new UnauthorizedAccessException(TASK_NOT_ASSIGNED_TO_EMPLOYEE + id);
+        }
+        return task.getStatus() == FAILED ? TASK_OUTDATED() : TASK_ALREADY_COMPLETED();
+    }
+
+    @Override
+    @Transactional
+    public List<TaskCompletionResponseDto> completeTasks(long assignedTo, Collection<Long> ids) {
+        LocalDateTime now = getNow();
+        Map<Long, Task> tasks = repository.findAllByAssignedToAndIdIn(assignedTo, ids).stream()
+                .collect(Collectors.toMap(Task::getId, Function.identity()));
+        List<Long> pendingIds = tasks.values().stream()
+                .filter(task -> task.getStatus() == PENDING)
+                .map(Task::getId)
+                .toList();
+        Set<Long> completedIds = pendingIds.isEmpty()
+                ? Set.of()
+                : new HashSet<>(repository.completePendingTasks(assignedTo, pendingIds, now));
+        completedIds.stream()
+                .collect(Collectors.groupingBy(id -> TaskCompletionRollup.monthOf(tasks.get(id).getEndDate()), Collectors.counting()))
+                .forEach((monthStart, completedTasks) -> rollupRepository.addCompletedTasks(assignedTo, monthStart, completedTasks));
+        completedIds.forEach(deadlineTracker::untrack);
+        return ids.stream()
+                .distinct()
+                .map(id -> TaskCompletionResponseDto.of(id, findCompletionOutcome(tasks.get(id), completedIds, now)))
+                .toList();
+    }
+
     @Override
     public TaskResponseDto findById(long id) {
         return TaskMapper.mapFromTask(findEntityById(id));
@@ -92,40 +204,68 @@ public class TaskServiceImpl implements TaskService {
     }
 
     @Override
+    @Transactional
     public TaskResponseDto deleteById(long id) {
         TaskResponseDto deletedTask = findById(id);
         repository.deleteById(id);
+        if (deletedTask.status() == COMPLETED) {
+            rollupRepository.addCompletedTasks(deletedTask.assignedTo(), TaskCompletionRollup.monthOf(deletedTask.endDate()), -1);
+        }
+        deadlineTracker.untrack(id);
         return deletedTask;
     }
 
     @Override
+    @Transactional
     public TaskResponseDto updateTask(long id, CreateAndUpdateTaskRequestDto requestedTask) {
+        return updateTask(id, requestedTask, null);
+    }
+
+    @Override
+    @Transactional
+    public TaskResponseDto updateTask(long id, CreateAndUpdateTaskRequestDto requestedTask, Long expectedVersion) {
         TaskResponseDto foundTask = findById(id);
+        if (expectedVersion != null && !expectedVersion.equals(foundTask.version())) {
+            throw new PreconditionFailed(EntityVersionTag.STALE_VERSION);
+        }
         TaskResponseDto inputTask = TaskMapper.mapFromTaskUpdate(requestedTask, foundTask);
         validateIfTaskCanBeCreated(inputTask);
-        return TaskMapper.mapFromTask(
-                repository.save(TaskMapper.mapToTask(inputTask))
-        );
+        Task updatedTask = trackDeadline(repository.save(TaskMapper.mapToTask(inputTask)));
+        if (updatedTask.getStatus() == COMPLETED) {
+            moveCompletedTask(foundTask, updatedTask);
+        }
+        return TaskMapper.mapFromTask(updatedTask);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<CompletedTasksByAssignedToResponseDto> getCompletedTasksByAssignedTo(int lastMonths) {
         LocalDateTime taskEndDateRange = getNow().minusMonths(lastMonths);
-        List<TaskResponseDto> tasksFromLastSixMonths = getTasksFromLastSixMonths(taskEndDateRange);
-        Map<Long, Integer> tasksByAssignedTo = groupByAssignedToAndCountCompletedTasks(tasksFromLastSixMonths);
-        return tasksByAssignedTo.entrySet().stream()
-                .map(entry -> new CompletedTasksByAssignedToResponseDto(entry.getKey(), entry.getValue()))
-                .collect(Collectors.toList());
+        LocalDate firstFullMonth = TaskCompletionRollup.monthOf(taskEndDateRange).plusMonths(1);
+        Map<Long, Long> completedTasks = Stream.concat(
+                        repository.countCompletedByAssignedToEndingBetween(taskEndDateRange, firstFullMonth.atStartOfDay()).stream(),
+                        rollupRepository.sumCompletedByAssignedToFromMonth(firstFullMonth).stream())
+                .collect(Collectors.toMap(CompletedTasksCount::assignedTo, CompletedTasksCount::completedTasks, Long::sum));
+        return completedTasks.entrySet().stream()
+                .map(entry -> new CompletedTasksByAssignedToResponseDto(entry.getKey(), Math.toIntExact(entry.getValue())))
+                .toList();
     }
 
     @Override
-    @Transactional
-    public void markAsFailedOutdatedTasks() {
+    public int markAsFailedOutdatedTasks() {
         LocalDateTime checkedDateTime = getNow();
-        repository.findAll()
-            .stream()
-            .filter(task -> task.getStatus() == PENDING && task.getEndDate().isBefore(checkedDateTime))
-            .forEach(Task::fail);
+        int failedTasks = 0;
+        int failedInChunk;
+        do {
+            failedInChunk = repository.failOutdatedPendingTasks(checkedDateTime, FAIL_OUTDATED_CHUNK_SIZE);
+            failedTasks += failedInChunk;
+        } while (failedInChunk == FAIL_OUTDATED_CHUNK_SIZE);
+        return failedTasks;
+    }
+
+    @Override
+    public int markAsFailedOutdatedTasks(Long fromId, Long toId, LocalDateTime dueBefore) {
+        return repository.failOutdatedPendingTasksBetween(dueBefore, fromId, toId);
     }
 
     private void validateIfTaskCanBeCreated(TaskResponseDto inputTask) {
@@ -146,23 +286,70 @@ public class TaskServiceImpl implements TaskService {
         }
     }
 
+    private TaskInfoResponseDto findCompletionOutcome(Task task, Set<Long> completedIds, LocalDateTime now) {
+        if (task == null) {
+            return new TaskInfoResponseDto(TASK_NOT_FOUND, NOT_FOUND);
+        }
+        if (completedIds.contains(task.getId())) {
+            return TASK_COMPLETED();
+        }
+        if (task.getStatus() == FAILED || (task.getStatus() == PENDING && task.getEndDate().isBefore(now))) {
+            return TASK_OUTDATED();
+        }
+        return TASK_ALREADY_COMPLETED();
+    }
+
+    private Set<TaskAssignment> findTakenAssignments(List<TaskResponseDto> inputTasks) {
+        if (inputTasks.isEmpty()) {
+            return new HashSet<>();
+        }
+        Set<Long> assignees = inputTasks.stream().map(TaskResponseDto::assignedTo).collect(Collectors.toSet());
+        Set<String> titles = inputTasks.stream().map(TaskResponseDto::title).collect(Collectors.toSet());
+        return new HashSet<>(repository.findAssignments(assignees, titles));
+    }
+
+    private String findCreationError(TaskResponseDto inputTask, Set<TaskAssignment> takenAssignments) {
+        if (!inputTask.startDate().isBefore(inputTask.endDate())) {
+            return INVALID_DATE_ORDER;
+        }
+        if (!takenAssignments.add(new TaskAssignment(inputTask.assignedTo(), inputTask.title()))) {
+            return TASK_DUPLICATE;
+        }
+        return null;
+    }
+
+    // an updated task keeps its id, so it must not count as its own duplicate
     private boolean isTaskAssignedToSameUser(TaskResponseDto inputTask) {
-        return listTasks().stream()
-                .anyMatch(task -> task.title().equals(inputTask.title()) &&
-                        task.assignedTo().equals(inputTask.assignedTo()));
+        return inputTask.id() == null
+                ? repository.existsByAssignedToAndTitle(inputTask.assignedTo(), inputTask.title())
+                : repository.existsByAssignedToAndTitleAndIdNot(inputTask.assignedTo(), inputTask.title(), inputTask.id());
     }
 
-    private List<TaskResponseDto> getTasksFromLastSixMonths(LocalDateTime taskEndDateRange) {
-        List<TaskResponseDto> tasks = listTasks();
-        return tasks.stream()
-                .filter(task -> task.status() == COMPLETED && task.endDate().isAfter(taskEndDateRange))
-                .toList();
+    private void moveCompletedTask(TaskResponseDto previousTask, Task updatedTask) {
+        LocalDate previousMonth = TaskCompletionRollup.monthOf(previousTask.endDate());
+        LocalDate updatedMonth = TaskCompletionRollup.monthOf(updatedTask.getEndDate());
+        if (previousTask.assignedTo().equals(updatedTask.getAssignedTo()) && previousMonth.equals(updatedMonth)) {
+            return;
+        }
+        rollupRepository.addCompletedTasks(previousTask.assignedTo(), previousMonth, -1);
+        rollupRepository.addCompletedTasks(updatedTask.getAssignedTo(), updatedMonth, 1);
     }
 
-    private Map<Long, Integer> groupByAssignedToAndCountCompletedTasks(List<TaskResponseDto> tasks) {
-        return tasks.stream()
-                .filter(task -> task.status() == COMPLETED)
-                .collect(Collectors.groupingBy(TaskResponseDto::assignedTo, Collectors.summingInt(task -> 1)));
+    private Task trackDeadline(Task task) {
+        if (task.getStatus() == PENDING) {
+            deadlineTracker.track(task.getId(), task.getEndDate());
+        }
+        return task;
+    }
+
+    private TaskPageResponseDto toPage(List<Task> tasks, int limit, TaskPageOrder order) {
+        boolean hasNextPage = tasks.size() > limit;
+        List<Task> page = hasNextPage ? tasks.subList(0, limit) : tasks;
+        String nextCursor = hasNextPage ? TaskCursor.of(order, page.get(page.size() - 1)).encode() : null;
+        return new TaskPageResponseDto(
+                page.stream().map(TaskMapper::mapFromTask).toList(),
+                nextCursor
+        );
     }
 
     private LocalDateTime getNow() {
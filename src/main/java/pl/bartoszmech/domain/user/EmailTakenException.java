@@ -1,6 +1,8 @@
 package pl.bartoszmech.domain.user;
 
 public class EmailTakenException extends RuntimeException {
+    public static final String EMAIL_TAKEN = "User email is taken";
+
     public EmailTakenException(String message) {
         super(message);
     }
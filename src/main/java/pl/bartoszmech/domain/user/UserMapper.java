@@ -32,7 +32,7 @@ public class UserMapper {
     }
 
     public static UserResponseDto mapToResponse(User user) {
-        return new UserResponseDto(user.getId(), user.getFirstName(), user.getLastName(), user.getEmail(), user.getRole());
+        return new UserResponseDto(user.getId(), user.getFirstName(), user.getLastName(), user.getEmail(), user.getRole(), user.getVersion());
     }
 
     public static CreateUserDto mapToCreateAndUpdateRequest(CreateUserDto requestDto) {
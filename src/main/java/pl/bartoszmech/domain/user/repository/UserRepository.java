@@ -1,7 +1,10 @@
 package pl.bartoszmech.domain.user.repository;
 
+import pl.bartoszmech.application.response.UserResponseDto;
 import pl.bartoszmech.domain.user.User;
+import pl.bartoszmech.domain.user.UserRoles;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -10,8 +13,12 @@ public interface UserRepository {
     Optional<User> findByEmail(String email);
     Optional<User> findById(Long id);
     User save(User newUser);
+    List<User> saveAll(List<User> newUsers);
     boolean existsByEmail(String email);
+    List<String> findExistingEmails(Collection<String> emails);
     List<User> findAll();
+    List<User> findAllByIds(Collection<Long> ids);
+    List<UserResponseDto> findResponsesByRoleIn(Collection<UserRoles> roles);
     void deleteById(Long id);
 
 }
@@ -3,21 +3,27 @@ package pl.bartoszmech.domain.user.service;
 import pl.bartoszmech.application.request.CreateUserDto;
 import pl.bartoszmech.application.request.UpdatePasswordRequestDto;
 import pl.bartoszmech.application.request.UpdateUserDto;
+import pl.bartoszmech.application.response.BulkUserResultDto;
 import pl.bartoszmech.application.response.UserResponseDto;
 import pl.bartoszmech.domain.user.dto.UserDto;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface UserService {
 
     UserDto findByEmail(String email);
     UserResponseDto createUser(CreateUserDto inputUser);
+    List<BulkUserResultDto> createUsers(List<CreateUserDto> inputUsers);
     void updatePassword(UserDto user, UpdatePasswordRequestDto passwords);
     List<UserResponseDto> listUsers();
     List<UserResponseDto> listEmployees();
     UserResponseDto deleteById(Long id);
     UserResponseDto findById(Long id);
+    List<UserResponseDto> findAllByIds(Collection<Long> ids);
     UserResponseDto updateUser(Long id, UpdateUserDto userRequestDto);
+
+    UserResponseDto updateUser(Long id, UpdateUserDto userRequestDto, Long expectedVersion);
     UserResponseDto registerAdmin(CreateUserDto inputUser);
 
 }
@@ -1,36 +1,53 @@
 package pl.bartoszmech.domain.user.service;
 
 import lombok.AllArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.transaction.annotation.Transactional;
 import pl.bartoszmech.application.request.CreateUserDto;
 import pl.bartoszmech.application.request.UpdatePasswordRequestDto;
 import pl.bartoszmech.application.request.UpdateUserDto;
+import pl.bartoszmech.application.response.BulkUserResultDto;
 import pl.bartoszmech.application.response.UserResponseDto;
 import pl.bartoszmech.domain.user.EmailTakenException;
 import pl.bartoszmech.domain.user.User;
 import pl.bartoszmech.domain.user.UserMapper;
 import pl.bartoszmech.domain.user.dto.UserDto;
 import pl.bartoszmech.domain.user.repository.UserRepository;
+import pl.bartoszmech.infrastructure.apivalidation.EntityVersionTag;
+import pl.bartoszmech.infrastructure.apivalidation.PreconditionFailed;
 import pl.bartoszmech.infrastructure.apivalidation.ResourceNotFound;
 import pl.bartoszmech.infrastructure.auth.error.InvalidEmailException;
 import pl.bartoszmech.infrastructure.auth.error.InvalidPasswordException;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.stream.Collectors;
 
+import static pl.bartoszmech.domain.user.EmailTakenException.EMAIL_TAKEN;
 import static pl.bartoszmech.domain.user.UserRoles.ADMIN;
 import static pl.bartoszmech.domain.user.UserRoles.EMPLOYEE;
 
 @AllArgsConstructor
 public class UserServiceImpl implements UserService {
 
-    private static final String EMAIL_TAKEN = "User email is taken";
     private static final String USER_NOT_FOUND = "User with provided id could not be found";
     private static final String USER_NOT_FOUND_BY_EMAIL = "User with provided email could not be found";
     public static final String PASSWORD_DOES_NOT_MATCH = "Password does not match";
+    public static final String USERS_BY_ID_CACHE = "usersById";
     private final UserRepository repository;
     private final PasswordEncoder passwordEncoder;
+    private final Executor passwordHashingExecutor;
 
+    // carries the password hash for login, so it is always read from the database
     @Override
     public UserDto findByEmail(String email) {
         return UserMapper.mapFromUser(repository.findByEmail(email)
@@ -44,28 +61,79 @@ public class UserServiceImpl implements UserService {
         return UserMapper.mapToResponse(savedUser);
     }
 
-    private User saveUserWithEncodedPassword(CreateUserDto inputUser) {
-        return repository.save(new User(
+    @Override
+    public List<BulkUserResultDto> createUsers(List<CreateUserDto> inputUsers) {
+        Set<String> takenEmails = inputUsers.isEmpty()
+                ? new HashSet<>()
+                : new HashSet<>(repository.findExistingEmails(inputUsers.stream().map(CreateUserDto::email).collect(Collectors.toSet())));
+        boolean[] accepted = new boolean[inputUsers.size()];
+        List<CompletableFuture<User>> encodedUsers = new ArrayList<>();
+        for (int index = 0; index < inputUsers.size(); index++) {
+            CreateUserDto inputUser = inputUsers.get(index);
+            if (takenEmails.add(inputUser.email())) {
+                accepted[index] = true;
+                encodedUsers.add(CompletableFuture.supplyAsync(() -> mapToUserWithEncodedPassword(inputUser), passwordHashingExecutor));
+            }
+        }
+        Iterator<User> savedUsers = saveUsers(encodedUsers.stream().map(CompletableFuture::join).toList()).iterator();
+        List<BulkUserResultDto> results = new ArrayList<>(inputUsers.size());
+        for (int index = 0; index < inputUsers.size(); index++) {
+            User savedUser = accepted[index] ? savedUsers.next() : null;
+            results.add(savedUser != null
+                    ? BulkUserResultDto.created(index, UserMapper.mapToResponse(savedUser))
+                    : BulkUserResultDto.rejected(index, List.of(EMAIL_TAKEN)));
+        }
+        return results;
+    }
+
+    // a concurrent import can take an email after findExistingEmails, the unique constraint then rolls back the batch,
+    // so its users are saved again one per transaction and the ones that lost the race come back as null
+    private List<User> saveUsers(List<User> users) {
+        try {
+            return repository.saveAll(users);
+        } catch (EmailTakenException e) {
+            return users.stream().map(this::saveIfEmailIsFree).toList();
+        }
+    }
+
+    // the failed batch may have assigned ids to the entities, so a fresh copy is persisted
+    private User saveIfEmailIsFree(User user) {
+        try {
+            return repository.save(new User(user.getFirstName(), user.getLastName(), user.getEmail(), user.getPassword(), user.getRole()));
+        } catch (EmailTakenException e) {
+            return null;
+        }
+    }
+
+    private User mapToUserWithEncodedPassword(CreateUserDto inputUser) {
+        return new User(
                 inputUser.firstName(),
                 inputUser.lastName(),
                 inputUser.email(),
                 passwordEncoder.encode(inputUser.password()),
-                inputUser.role())
-        );
+                inputUser.role());
+    }
+
+    private User saveUserWithEncodedPassword(CreateUserDto inputUser) {
+        return repository.save(mapToUserWithEncodedPassword(inputUser));
     }
 
-    private User updateUserWithoutCredentials(long userId, UpdateUserDto inputUser) {
+    private User updateUserWithoutCredentials(long userId, UpdateUserDto inputUser, Long expectedVersion) {
         User user = repository.findById(userId)
                 .orElseThrow(() -> new ResourceNotFound(USER_NOT_FOUND));
+        if (expectedVersion != null && !expectedVersion.equals(user.getVersion())) {
+            throw new PreconditionFailed(EntityVersionTag.STALE_VERSION);
+        }
         user.setFirstName(inputUser.firstName());
         user.setLastName(inputUser.lastName());
         user.setEmail(inputUser.email());
         user.setRole(inputUser.role());
-        return user;
+        return repository.save(user);
     }
 
     @Transactional
     @Override
+    @CacheEvict(cacheNames = USERS_BY_ID_CACHE, key = "#user.id()")
     public void updatePassword(UserDto user, UpdatePasswordRequestDto passwords) {
         if(passwordEncoder.matches(passwords.oldPassword(), user.password())) {
             User foundUser = repository.findById(user.id())
@@ -77,23 +145,19 @@ public class UserServiceImpl implements UserService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<UserResponseDto> listUsers() {
-        return repository
-                .findAll()
-                .stream()
-                .map(UserMapper::mapToResponse)
-                .filter(user -> user.role() != ADMIN)
-                .toList();
+        return repository.findResponsesByRoleIn(EnumSet.complementOf(EnumSet.of(ADMIN)));
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<UserResponseDto> listEmployees() {
-        return listUsers().stream()
-                .filter(user -> user.role() == EMPLOYEE)
-                .toList();
+        return repository.findResponsesByRoleIn(EnumSet.of(EMPLOYEE));
     }
 
     @Override
+    @Cacheable(cacheNames = USERS_BY_ID_CACHE, key = "#id")
     public UserResponseDto findById(Long id) {
         User foundUser = repository.findById(id)
                 .orElseThrow(() -> new ResourceNotFound(USER_NOT_FOUND));
@@ -101,6 +165,14 @@ public class UserServiceImpl implements UserService {
     }
 
     @Override
+    public List<UserResponseDto> findAllByIds(Collection<Long> ids) {
+        return repository.findAllByIds(ids).stream()
+                .map(UserMapper::mapToResponse)
+                .toList();
+    }
+
+    @Override
+    @CacheEvict(cacheNames = USERS_BY_ID_CACHE, key = "#id")
     public UserResponseDto deleteById(Long id) {
         UserResponseDto deletedUser = findById(id);
         repository.deleteById(id);
@@ -109,9 +181,17 @@ public class UserServiceImpl implements UserService {
 
     @Transactional
     @Override
+    @CacheEvict(cacheNames = USERS_BY_ID_CACHE, key = "#id")
     public UserResponseDto updateUser(Long id, UpdateUserDto inputUser) {
+        return updateUser(id, inputUser, null);
+    }
+
+    @Transactional
+    @Override
+    @CacheEvict(cacheNames = USERS_BY_ID_CACHE, key = "#id")
+    public UserResponseDto updateUser(Long id, UpdateUserDto inputUser, Long expectedVersion) {
         checkIfEmailIsAlreadyUsedByOtherUser(id, inputUser.email());
-        return UserMapper.mapToResponse(updateUserWithoutCredentials(id, inputUser));
+        return UserMapper.mapToResponse(updateUserWithoutCredentials(id, inputUser, expectedVersion));
     }
 
     @Override
@@ -0,0 +1,28 @@
+package pl.bartoszmech.infrastructure.apivalidation;
+
+public class EntityVersionTag {
+
+    public static final String STALE_VERSION = "Resource was modified by another request, fetch it again and retry with its current ETag";
+    private static final String ANY = "*";
+    private static final String WEAK_PREFIX = "W/";
+
+    public static String of(Long version) {
+        return "\"" + version + "\"";
+    }
+
+    public static Long parseIfMatch(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ANY.equals(ifMatch.trim())) {
+            return null;
+        }
+        String tag = ifMatch.trim();
+        if (tag.startsWith(WEAK_PREFIX)) {
+            tag = tag.substring(WEAK_PREFIX.length());
+        }
+        try {
+            return Long.parseLong(tag.replace("\"", ""));
+        } catch (NumberFormatException e) {
+            throw new PreconditionFailed(STALE_VERSION);
+        }
+    }
+
+}
@@ -0,0 +1,9 @@
+package pl.bartoszmech.infrastructure.apivalidation;
+
+import java.security.InvalidParameterException;
+
+public class InvalidPageLimitParameterException extends InvalidParameterException {
+    InvalidPageLimitParameterException(String message) {
+        super(message);
+    }
+}
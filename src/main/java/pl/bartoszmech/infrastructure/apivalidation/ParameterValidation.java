@@ -2,10 +2,18 @@ package pl.bartoszmech.infrastructure.apivalidation;
 
 public class ParameterValidation {
 
+    public static final int MAX_PAGE_LIMIT = 500;
+
     public static void validateLastMonths(int value) throws IllegalArgumentException {
         if (value <= 0) {
             throw new InvalidLastMonthsParameterException("Invalid value: " + value + ". Value must be a positive integer.");
         }
     }
 
+    public static void validatePageLimit(int value) throws IllegalArgumentException {
+        if (value <= 0 || value > MAX_PAGE_LIMIT) {
+            throw new InvalidPageLimitParameterException("Invalid limit: " + value + ". Limit must be between 1 and " + MAX_PAGE_LIMIT + ".");
+        }
+    }
+
 }
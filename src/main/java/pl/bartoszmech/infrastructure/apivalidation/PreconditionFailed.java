@@ -0,0 +1,7 @@
+package pl.bartoszmech.infrastructure.apivalidation;
+
+public class PreconditionFailed extends RuntimeException {
+    public PreconditionFailed(String message) {
+        super(message);
+    }
+}
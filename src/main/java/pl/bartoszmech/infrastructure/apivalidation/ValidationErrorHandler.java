@@ -42,6 +42,12 @@ public class ValidationErrorHandler {
         return ResponseEntity.status(BAD_REQUEST).body(new ValidationResponse(List.of(e.getMessage())));
     }
 
+    @ExceptionHandler(InvalidPageLimitParameterException.class)
+    @ResponseBody
+    public ResponseEntity<ValidationResponse> handlePageLimitException(InvalidPageLimitParameterException e) {
+        return ResponseEntity.status(BAD_REQUEST).body(new ValidationResponse(List.of(e.getMessage())));
+    }
+
     @ExceptionHandler(MethodArgumentTypeMismatchException.class)
     @ResponseBody
     public ResponseEntity<ValidationResponse> InvalidJsonFormatException(MethodArgumentTypeMismatchException e) {
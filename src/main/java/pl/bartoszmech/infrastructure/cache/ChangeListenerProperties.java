@@ -0,0 +1,12 @@
+package pl.bartoszmech.infrastructure.cache;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(value = "cache.change-listener")
+public record ChangeListenerProperties(
+
+        Duration reconnectDelay
+
+) {}
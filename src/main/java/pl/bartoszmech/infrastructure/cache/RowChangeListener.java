@@ -0,0 +1,125 @@
+package pl.bartoszmech.infrastructure.cache;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.log4j.Log4j2;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// Keeps one connection outside of the Hikari pool in LISTEN mode. A trigger on the table of every subscriber
+// notifies its channel after commit of each update or delete, so every node, the writing one included,
+// evicts rows changed by any node, including the bulk SQL updates.
+@Component
+@Log4j2
+public class RowChangeListener {
+
+    private static final long TRIGGER_INSTALL_LOCK = 0x7461736bL;
+    private static final int POLL_TIMEOUT_MILLIS = 1000;
+
+    private final Map<String, RowChangeSubscriber> subscribers;
+    private final DataSourceProperties dataSourceProperties;
+    private final ChangeListenerProperties properties;
+    private final Thread thread;
+    private volatile boolean running = true;
+
+    public RowChangeListener(List<RowChangeSubscriber> subscribers, DataSourceProperties dataSourceProperties, ChangeListenerProperties properties) {
+        this.subscribers = subscribers.stream().collect(Collectors.toMap(RowChangeSubscriber::channel, Function.identity()));
+        this.dataSourceProperties = dataSourceProperties;
+        this.properties = properties;
+        this.thread = Thread.ofPlatform().name("row-change-listener").daemon().unstarted(this::run);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        thread.start();
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        thread.interrupt();
+    }
+
+    private void run() {
+        while (running) {
+            try (Connection connection = DriverManager.getConnection(dataSourceProperties.determineUrl(),
+                    dataSourceProperties.determineUsername(), dataSourceProperties.determinePassword())) {
+                installTriggers(connection);
+                try (Statement statement = connection.createStatement()) {
+                    for (String channel : subscribers.keySet()) {
+                        statement.execute("LISTEN " + channel);
+                    }
+                }
+                // notifications sent while the listener was disconnected are lost
+                invalidateAll();
+                log.info("Listening for row changes on {}", subscribers.keySet());
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                while (running) {
+                    PGNotification[] notifications = pgConnection.getNotifications(POLL_TIMEOUT_MILLIS);
+                    if (notifications != null) {
+                        for (PGNotification notification : notifications) {
+                            subscribers.get(notification.getName()).invalidate(Long.valueOf(notification.getParameter()));
+                        }
+                    }
+                }
+            } catch (SQLException e) {
+                invalidateAll();
+                if (running) {
+                    log.warn("Row change listener disconnected, reconnecting in {}", properties.reconnectDelay(), e);
+                    sleep();
+                }
+            }
+        }
+    }
+
+    private void invalidateAll() {
+        subscribers.values().forEach(RowChangeSubscriber::invalidateAll);
+    }
+
+    private void installTriggers(Connection connection) throws SQLException {
+        connection.setAutoCommit(false);
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("SELECT pg_advisory_xact_lock(" + TRIGGER_INSTALL_LOCK + ")");
+            statement.execute("""
+                    CREATE OR REPLACE FUNCTION notify_row_change() RETURNS trigger AS $$
+                    BEGIN
+                        PERFORM pg_notify(TG_ARGV[0], OLD.id::text);
+                        RETURN NULL;
+                    END;
+                    $$ LANGUAGE plpgsql""");
+            for (RowChangeSubscriber subscriber : subscribers.values()) {
+                statement.execute("""
+                        CREATE OR REPLACE TRIGGER %1$s_notify_change
+                        AFTER UPDATE OR DELETE ON %1$s
+                        FOR EACH ROW EXECUTE FUNCTION notify_row_change('%2$s')""".formatted(subscriber.table(), subscriber.channel()));
+            }
+            // replaced by notify_row_change, left behind by versions that only notified task changes
+            statement.execute("DROP FUNCTION IF EXISTS notify_task_change()");
+            connection.commit();
+        } finally {
+            connection.setAutoCommit(true);
+        }
+    }
+
+    private void sleep() {
+        try {
+            Thread.sleep(properties.reconnectDelay());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            running = false;
+        }
+    }
+
+}
@@ -0,0 +1,14 @@
+package pl.bartoszmech.infrastructure.cache;
+
+// A local cache of rows from one table, evicted by id whenever any node updates or deletes such a row
+public interface RowChangeSubscriber {
+
+    String table();
+
+    String channel();
+
+    void invalidate(Long id);
+
+    void invalidateAll();
+
+}
@@ -0,0 +1,99 @@
+package pl.bartoszmech.infrastructure.datasource;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import javax.sql.DataSource;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+// Spring Boot backs off from the JDBC DataSource and the JPA transaction manager once an R2DBC
+// ConnectionFactory is present, so the blocking side is declared here and stays the default.
+@Configuration
+public class DataSourceConfig {
+
+    @Bean
+    @Primary
+    @ConfigurationProperties("spring.datasource")
+    public DataSourceProperties dataSourceProperties() {
+        return new DataSourceProperties();
+    }
+
+    // settings shared by every pool, each pool only changes its name, size and, for replicas, the connection details
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariConfig hikariConfig(DataSourceProperties properties) {
+        HikariConfig config = new HikariConfig();
+        config.setDriverClassName(properties.determineDriverClassName());
+        config.setJdbcUrl(properties.determineUrl());
+        config.setUsername(properties.determineUsername());
+        config.setPassword(properties.determinePassword());
+        return config;
+    }
+
+    @Bean
+    public ReplicaRoutingDataSource replicaRoutingDataSource(HikariConfig hikariConfig, PoolSizeProperties poolSizes,
+                                                             ReplicaProperties replicaProperties, MeterRegistry meterRegistry) {
+        Map<Workload, DataSource> primaries = new EnumMap<>(Workload.class);
+        for (Workload workload : Workload.values()) {
+            HikariDataSource pool = createPool(hikariConfig, workload.name().toLowerCase(Locale.ROOT), meterRegistry);
+            pool.setMaximumPoolSize(poolSizes.of(workload));
+            primaries.put(workload, pool);
+        }
+        List<ReplicaProperties.Instance> instances = replicaProperties.instances();
+        List<DataSource> replicas = IntStream.range(0, instances.size())
+                .mapToObj(index -> (DataSource) createReplica(index, instances.get(index), hikariConfig, replicaProperties, meterRegistry))
+                .toList();
+        return new ReplicaRoutingDataSource(primaries, replicas, replicaProperties.maxLag(), new PostgreSQLReplicaLagProbe());
+    }
+
+    // the transaction manager asks for a connection before it marks the transaction read-only,
+    // the lazy proxy defers the routing decision to the first statement
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaRoutingDataSource replicaRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(replicaRoutingDataSource);
+    }
+
+    @Bean
+    @Primary
+    public PlatformTransactionManager transactionManager(EntityManagerFactory entityManagerFactory) {
+        return new JpaTransactionManager(entityManagerFactory);
+    }
+
+    // pools connect on first use, so an unreachable replica does not fail the startup
+    private static HikariDataSource createPool(HikariConfig template, String name, MeterRegistry meterRegistry) {
+        HikariDataSource pool = new HikariDataSource();
+        template.copyStateTo(pool);
+        pool.setPoolName(name);
+        pool.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+        return pool;
+    }
+
+    // a short connection timeout lets reads fall back to the primary quickly
+    private static HikariDataSource createReplica(int index, ReplicaProperties.Instance instance, HikariConfig template,
+                                                  ReplicaProperties properties, MeterRegistry meterRegistry) {
+        HikariDataSource replica = createPool(template, "replica-" + index, meterRegistry);
+        replica.setJdbcUrl(instance.url());
+        replica.setUsername(instance.username());
+        replica.setPassword(instance.password());
+        replica.setConnectionTimeout(properties.connectionTimeout().toMillis());
+        replica.setReadOnly(true);
+        return replica;
+    }
+
+}
@@ -0,0 +1,22 @@
+package pl.bartoszmech.infrastructure.datasource;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(value = "datasource.pool-size")
+public record PoolSizeProperties(
+
+        int interactive,
+        int background,
+        int analytics
+
+) {
+
+    public int of(Workload workload) {
+        return switch (workload) {
+            case INTERACTIVE -> interactive;
+            case BACKGROUND -> background;
+            case ANALYTICS -> analytics;
+        };
+    }
+
+}
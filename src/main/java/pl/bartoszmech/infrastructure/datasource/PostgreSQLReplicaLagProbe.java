@@ -0,0 +1,39 @@
+package pl.bartoszmech.infrastructure.datasource;
+
+import pl.bartoszmech.infrastructure.datasource.ReplicaRoutingDataSource.ReplicaLag;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+
+// A streaming replica that has replayed everything it received is up to date even if the primary was idle for a while.
+// Without a streaming WAL receiver nothing new arrives, so the replica is reported as disconnected whatever its replay state.
+// The status in pg_stat_wal_receiver is only visible to roles with pg_read_all_stats, the replica user needs it.
+// A server that is not in recovery (a stand-in for local runs) is treated as a streaming replica with no lag.
+public class PostgreSQLReplicaLagProbe implements ReplicaRoutingDataSource.ReplicaLagProbe {
+
+    private static final String REPLICA_LAG_MILLIS = """
+            SELECT pg_is_in_recovery() AND NOT EXISTS (SELECT 1 FROM pg_stat_wal_receiver WHERE status = 'streaming') AS disconnected,
+                CASE
+                    WHEN NOT pg_is_in_recovery() OR pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0
+                    ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) * 1000, 0)
+                END AS lag_millis
+            """;
+
+    @Override
+    public ReplicaLag lagOf(DataSource replica) throws SQLException {
+        try (Connection connection = replica.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet lag = statement.executeQuery(REPLICA_LAG_MILLIS)) {
+            lag.next();
+            if (lag.getBoolean("disconnected")) {
+                return ReplicaLag.DISCONNECTED;
+            }
+            return ReplicaLag.of(Duration.ofMillis(lag.getLong("lag_millis")));
+        }
+    }
+
+}
@@ -0,0 +1,22 @@
+package pl.bartoszmech.infrastructure.datasource;
+
+// Keeps read-only transactions of the current thread on the primary, for reads whose result is cached
+// and so must not come from a replica that has not replayed the latest commits yet.
+public final class PrimaryReads {
+
+    private static final ThreadLocal<Boolean> REQUIRED = ThreadLocal.withInitial(() -> false);
+
+    private PrimaryReads() {
+    }
+
+    public static boolean required() {
+        return REQUIRED.get();
+    }
+
+    public static Workload.Scope enter() {
+        boolean previous = REQUIRED.get();
+        REQUIRED.set(true);
+        return () -> REQUIRED.set(previous);
+    }
+
+}
@@ -0,0 +1,21 @@
+package pl.bartoszmech.infrastructure.datasource;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.List;
+
+@ConfigurationProperties(value = "datasource.replica")
+public record ReplicaProperties(
+
+        @DefaultValue List<Instance> instances,
+        Duration maxLag,
+        Duration lagCheckInterval,
+        Duration connectionTimeout
+
+) {
+
+    public record Instance(String url, String username, String password) {}
+
+}
@@ -0,0 +1,142 @@
+package pl.bartoszmech.infrastructure.datasource;
+
+import lombok.extern.log4j.Log4j2;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+// Sends read-only transactions to a replica whose lag is within maxLag, everything else to the primary pool
+// of the current Workload. Replicas start as unavailable and are only used once a lag check has passed.
+// Read-only transactions opened inside PrimaryReads stay on the primary as well.
+@Log4j2
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    private final Map<Workload, DataSource> primaries;
+    private final List<DataSource> replicas;
+    private final Duration maxLag;
+    private final ReplicaLagProbe lagProbe;
+    private volatile boolean[] available;
+    private final AtomicInteger nextReplica = new AtomicInteger();
+
+    public ReplicaRoutingDataSource(Map<Workload, DataSource> primaries, List<DataSource> replicas, Duration maxLag, ReplicaLagProbe lagProbe) {
+        this.primaries = Map.copyOf(primaries);
+        this.replicas = List.copyOf(replicas);
+        this.maxLag = maxLag;
+        this.lagProbe = lagProbe;
+        this.available = new boolean[replicas.size()];
+        Map<Object, Object> targets = new HashMap<>();
+        targets.putAll(primaries);
+        IntStream.range(0, replicas.size()).forEach(index -> targets.put(index, replicas.get(index)));
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primaries.get(Workload.INTERACTIVE));
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly() || PrimaryReads.required()) {
+            return Workload.current();
+        }
+        boolean[] current = available;
+        int start = Math.floorMod(nextReplica.getAndIncrement(), Math.max(current.length, 1));
+        for (int offset = 0; offset < current.length; offset++) {
+            int index = (start + offset) % current.length;
+            if (current[index]) {
+                return index;
+            }
+        }
+        return Workload.current();
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        Object key = determineCurrentLookupKey();
+        if (!(key instanceof Integer index)) {
+            return primaries.get((Workload) key).getConnection();
+        }
+        try {
+            return replicas.get(index).getConnection();
+        } catch (SQLException e) {
+            markUnavailable(index);
+            log.warn("Replica {} is unreachable, reading from the primary instead: {}", index, e.getMessage());
+            return primaries.get(Workload.current()).getConnection();
+        }
+    }
+
+    public void checkReplicas() {
+        boolean[] previous = available;
+        boolean[] checked = new boolean[replicas.size()];
+        for (int index = 0; index < replicas.size(); index++) {
+            checked[index] = isWithinMaxLag(index, previous[index]);
+            if (!previous[index] && checked[index]) {
+                log.info("Replica {} is available for read-only transactions", index);
+            }
+        }
+        available = checked;
+    }
+
+    private boolean isWithinMaxLag(int index, boolean wasAvailable) {
+        try {
+            ReplicaLag replicaLag = lagProbe.lagOf(replicas.get(index));
+            if (!replicaLag.streaming()) {
+                if (wasAvailable) {
+                    log.warn("Replica {} is not streaming from the primary, reading from the primary instead", index);
+                }
+                return false;
+            }
+            Duration lag = replicaLag.lag();
+            if (lag.compareTo(maxLag) > 0) {
+                if (wasAvailable) {
+                    log.warn("Replica {} is {} behind the primary, reading from the primary instead", index, lag);
+                }
+                return false;
+            }
+            return true;
+        } catch (SQLException e) {
+            if (wasAvailable) {
+                log.warn("Replica {} is unreachable, reading from the primary instead: {}", index, e.getMessage());
+            }
+            return false;
+        }
+    }
+
+    public void close() throws Exception {
+        for (Object target : getResolvedDataSources().values()) {
+            if (target instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+    }
+
+    private void markUnavailable(int index) {
+        boolean[] updated = available.clone();
+        updated[index] = false;
+        available = updated;
+    }
+
+    @FunctionalInterface
+    public interface ReplicaLagProbe {
+        ReplicaLag lagOf(DataSource replica) throws SQLException;
+    }
+
+    // a replica that lost its WAL receiver has replayed all it received, so its lag alone would look like zero
+    public record ReplicaLag(boolean streaming, Duration lag) {
+
+        public static final ReplicaLag DISCONNECTED = new ReplicaLag(false, null);
+
+        public static ReplicaLag of(Duration lag) {
+            return new ReplicaLag(true, lag);
+        }
+
+    }
+
+}
@@ -0,0 +1,28 @@
+package pl.bartoszmech.infrastructure.datasource;
+
+// Selects the primary connection pool for the current thread. Requests run as INTERACTIVE,
+// schedulers and reports enter their own workload so they cannot exhaust the interactive pool.
+public enum Workload {
+
+    INTERACTIVE,
+    BACKGROUND,
+    ANALYTICS;
+
+    private static final ThreadLocal<Workload> CURRENT = ThreadLocal.withInitial(() -> INTERACTIVE);
+
+    public static Workload current() {
+        return CURRENT.get();
+    }
+
+    public Scope enter() {
+        Workload previous = CURRENT.get();
+        CURRENT.set(this);
+        return () -> CURRENT.set(previous);
+    }
+
+    public interface Scope extends AutoCloseable {
+        @Override
+        void close();
+    }
+
+}
@@ -0,0 +1,20 @@
+package pl.bartoszmech.infrastructure.security.jwt;
+
+import pl.bartoszmech.domain.user.UserRoles;
+
+import java.security.Principal;
+
+public record AuthenticatedUser(
+
+        long id,
+        String email,
+        UserRoles role
+
+) implements Principal {
+
+    @Override
+    public String getName() {
+        return email;
+    }
+
+}
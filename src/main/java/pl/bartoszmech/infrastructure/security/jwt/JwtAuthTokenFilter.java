@@ -1,11 +1,9 @@
 package pl.bartoszmech.infrastructure.security.jwt;
 
-import com.auth0.jwt.JWT;
-import com.auth0.jwt.algorithms.Algorithm;
+import com.auth0.jwt.interfaces.Claim;
 import com.auth0.jwt.interfaces.DecodedJWT;
-import com.auth0.jwt.interfaces.JWTVerifier;
 import java.io.IOException;
-import java.util.Collection;
+import java.util.List;
 
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -13,19 +11,23 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.AllArgsConstructor;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
+import pl.bartoszmech.domain.user.dto.UserDto;
+import pl.bartoszmech.domain.user.service.UserService;
+
+import static pl.bartoszmech.infrastructure.security.jwt.JwtAuthenticatorService.USER_ID_CLAIM;
 
 
 @Component
 @AllArgsConstructor
 public class JwtAuthTokenFilter extends OncePerRequestFilter {
 
-    private final JwtConfigurationProperties properties;
-    private final UserDetailsService userDetailsService;
+    private final JwtTokenVerifier tokenVerifier;
+    private final UserRoleCache userRoleCache;
+    private final UserService userService;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
@@ -40,16 +42,24 @@ public class JwtAuthTokenFilter extends OncePerRequestFilter {
     }
 
     private UsernamePasswordAuthenticationToken getUsernamePasswordAuthenticationToken(String authHeader) {
-        String secretKey = properties.secret();
-        Algorithm algorithm = Algorithm.HMAC256(secretKey);
-        JWTVerifier verifier = JWT.require(algorithm)
-                .build();
-
         String token = authHeader.substring(7);
-        DecodedJWT jwt = verifier.verify(token);
-        var userEmail = jwt.getSubject();
-        Collection<? extends GrantedAuthority> authorities = this.userDetailsService.loadUserByUsername(userEmail).getAuthorities();
-        return new UsernamePasswordAuthenticationToken(userEmail, null, authorities);
+        DecodedJWT jwt = tokenVerifier.verify(token);
+        AuthenticatedUser user = findAuthenticatedUser(jwt);
+        if (user == null) {
+            return null;
+        }
+        return new UsernamePasswordAuthenticationToken(user, null, List.of(new SimpleGrantedAuthority(user.role().getRoleName())));
+    }
+
+    private AuthenticatedUser findAuthenticatedUser(DecodedJWT jwt) {
+        Claim userId = jwt.getClaim(USER_ID_CLAIM);
+        if (userId.isMissing() || userId.isNull()) {
+            UserDto user = userService.findByEmail(jwt.getSubject());
+            return new AuthenticatedUser(user.id(), user.email(), user.role());
+        }
+        return userRoleCache.findRole(userId.asLong())
+                .map(role -> new AuthenticatedUser(userId.asLong(), jwt.getSubject(), role))
+                .orElse(null);
     }
 
 }
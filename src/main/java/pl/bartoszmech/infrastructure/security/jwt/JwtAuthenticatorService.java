@@ -12,6 +12,8 @@ import org.springframework.security.authentication.UsernamePasswordAuthenticatio
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.userdetails.User;
 import org.springframework.stereotype.Component;
+import pl.bartoszmech.domain.user.dto.UserDto;
+import pl.bartoszmech.domain.user.service.UserService;
 import pl.bartoszmech.infrastructure.auth.dto.JwtResponseDto;
 import pl.bartoszmech.application.request.TokenRequestDto;
 
@@ -20,9 +22,13 @@ import pl.bartoszmech.application.request.TokenRequestDto;
 @Component
 public class JwtAuthenticatorService {
 
+    public static final String USER_ID_CLAIM = "uid";
+
     private final AuthenticationManager authenticationManager;
     private final Clock clock;
     private final JwtConfigurationProperties properties;
+    private final Algorithm jwtAlgorithm;
+    private final UserService userService;
 
     public JwtResponseDto authenticateAndGenerateToken(TokenRequestDto loginRequest) {
         Authentication authenticate = authenticationManager.authenticate(
@@ -37,17 +43,17 @@ public class JwtAuthenticatorService {
     }
 
     private String createToken(User user) {
-        String secretKey = properties.secret();
-        Algorithm algorithm = Algorithm.HMAC256(secretKey);
+        UserDto userDto = userService.findByEmail(user.getUsername());
         Instant now = clock.instant();
         Instant expiresAt = now.plus(Duration.ofDays(properties.expirationDays()));
         String issuer = properties.issuer();
         return JWT.create()
                 .withSubject(user.getUsername())
+                .withClaim(USER_ID_CLAIM, userDto.id())
                 .withIssuedAt(now)
                 .withExpiresAt(expiresAt)
                 .withIssuer(issuer)
-                .sign(algorithm);
+                .sign(jwtAlgorithm);
     }
 
 }
@@ -0,0 +1,25 @@
+package pl.bartoszmech.infrastructure.security.jwt;
+
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.JWTVerifier.BaseVerification;
+import com.auth0.jwt.algorithms.Algorithm;
+import com.auth0.jwt.interfaces.JWTVerifier;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Clock;
+
+@Configuration
+public class JwtConfiguration {
+
+    @Bean
+    public Algorithm jwtAlgorithm(JwtConfigurationProperties properties) {
+        return Algorithm.HMAC256(properties.secret());
+    }
+
+    @Bean
+    public JWTVerifier jwtVerifier(Algorithm jwtAlgorithm, Clock clock) {
+        return ((BaseVerification) JWT.require(jwtAlgorithm)).build(clock);
+    }
+
+}
@@ -2,11 +2,15 @@ package pl.bartoszmech.infrastructure.security.jwt;
 
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
+import java.time.Duration;
+
 @ConfigurationProperties(value = "auth.jwt")
 public record JwtConfigurationProperties(
 
         String secret,
         long expirationDays,
-        String issuer
+        String issuer,
+        Duration roleCacheTtl,
+        long roleCacheMaxSize
 
 ) {}
@@ -0,0 +1,81 @@
+package pl.bartoszmech.infrastructure.security.jwt;
+
+import com.auth0.jwt.interfaces.DecodedJWT;
+import com.auth0.jwt.interfaces.JWTVerifier;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+@Component
+public class JwtTokenVerifier {
+
+    static final int MAX_VERIFIED_TOKENS = 10_000;
+
+    private final JWTVerifier verifier;
+    private final Clock clock;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Map<String, DecodedJWT> verifiedTokens = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, DecodedJWT> eldest) {
+            return size() > MAX_VERIFIED_TOKENS;
+        }
+    };
+
+    public JwtTokenVerifier(JWTVerifier verifier, Clock clock) {
+        this.verifier = verifier;
+        this.clock = clock;
+    }
+
+    public DecodedJWT verify(String token) {
+        String tokenHash = hash(token);
+        DecodedJWT jwt = findVerified(tokenHash);
+        if (jwt != null) {
+            return jwt;
+        }
+        jwt = verifier.verify(token);
+        if (jwt.getExpiresAtAsInstant() != null) {
+            lock.lock();
+            try {
+                verifiedTokens.put(tokenHash, jwt);
+            } finally {
+                lock.unlock();
+            }
+        }
+        return jwt;
+    }
+
+    private DecodedJWT findVerified(String tokenHash) {
+        lock.lock();
+        try {
+            DecodedJWT jwt = verifiedTokens.get(tokenHash);
+            if (jwt == null) {
+                return null;
+            }
+            if (!Instant.now(clock).isBefore(jwt.getExpiresAtAsInstant())) {
+                verifiedTokens.remove(tokenHash);
+                return null;
+            }
+            return jwt;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+}
@@ -19,6 +19,7 @@
 
     import java.io.IOException;
 
+    import static jakarta.servlet.DispatcherType.ASYNC;
     import static org.springframework.http.HttpMethod.GET;
     import static org.springframework.http.HttpMethod.PATCH;
     import static org.springframework.security.config.http.SessionCreationPolicy.STATELESS;
@@ -60,14 +61,21 @@
                     .csrf(AbstractHttpConfigurer::disable)
                     .authorizeRequests(
                             auth -> auth
+                                    .dispatcherTypeMatchers(ASYNC).permitAll()
                                     .requestMatchers(WHITE_LIST_URL).permitAll()
                                     .requestMatchers(PATCH,"/api/tasks/{id}/complete").hasAnyAuthority(EMPLOYEE.getRoleName())
+                                    .requestMatchers(PATCH,"/api/tasks/complete").hasAnyAuthority(EMPLOYEE.getRoleName())
                                     .requestMatchers(GET,"/api/tasks/employee/{id}").hasAnyAuthority(ADMIN.getRoleName(), MANAGER.getRoleName(), EMPLOYEE.getRoleName())
+                                    .requestMatchers(GET,"/api/tasks/export").hasAnyAuthority(ADMIN.getRoleName(), MANAGER.getRoleName())
+                                    .requestMatchers(GET,"/api/tasks/stream/employee/{id}").hasAnyAuthority(ADMIN.getRoleName(), MANAGER.getRoleName(), EMPLOYEE.getRoleName())
+                                    .requestMatchers(GET,"/api/tasks/stream").hasAnyAuthority(ADMIN.getRoleName(), MANAGER.getRoleName())
                                     .requestMatchers(GET,"/api/tasks/{id}").hasAnyAuthority(ADMIN.getRoleName(), MANAGER.getRoleName(), EMPLOYEE.getRoleName())
                                     .requestMatchers("/api/tasks/**").hasAnyAuthority(ADMIN.getRoleName(), MANAGER.getRoleName())
                                     .requestMatchers("/api/users/stats/sorted-by-completed-tasks").hasAnyAuthority(ADMIN.getRoleName(), MANAGER.getRoleName())
                                     .requestMatchers(GET, "/api/users/**").hasAnyAuthority(ADMIN.getRoleName(), MANAGER.getRoleName())
                                     .requestMatchers("/api/users/**").hasAuthority(ADMIN.getRoleName())
+                                    .requestMatchers(GET, "/actuator/health").permitAll()
+                                    .requestMatchers("/actuator/**").hasAuthority(ADMIN.getRoleName())
                                     .anyRequest().authenticated()
                     )
                     .sessionManagement(session -> session.sessionCreationPolicy(STATELESS))
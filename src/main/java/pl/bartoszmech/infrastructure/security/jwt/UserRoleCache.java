@@ -0,0 +1,39 @@
+package pl.bartoszmech.infrastructure.security.jwt;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.stereotype.Component;
+import pl.bartoszmech.domain.user.User;
+import pl.bartoszmech.domain.user.UserRoles;
+import pl.bartoszmech.domain.user.repository.UserRepository;
+
+import java.util.Optional;
+
+@Component
+public class UserRoleCache {
+
+    private final UserRepository repository;
+    private final Cache<Long, UserRoles> roles;
+
+    public UserRoleCache(UserRepository repository, JwtConfigurationProperties properties) {
+        this.repository = repository;
+        this.roles = Caffeine.newBuilder()
+                .maximumSize(properties.roleCacheMaxSize())
+                .expireAfterWrite(properties.roleCacheTtl())
+                .build();
+    }
+
+    // a deleted user is not cached, so the lookup is repeated until the token expires
+    public Optional<UserRoles> findRole(long userId) {
+        return Optional.ofNullable(roles.get(userId, id -> repository.findById(id).map(User::getRole).orElse(null)));
+    }
+
+    public void evict(long userId) {
+        roles.invalidate(userId);
+    }
+
+    public void invalidateAll() {
+        roles.invalidateAll();
+    }
+
+}
@@ -0,0 +1,209 @@
+package pl.bartoszmech.infrastructure.task.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import pl.bartoszmech.domain.task.CompletedTasksCount;
+import pl.bartoszmech.domain.task.Task;
+import pl.bartoszmech.domain.task.TaskAssignment;
+import pl.bartoszmech.domain.task.TaskCursor;
+import pl.bartoszmech.domain.task.TaskDeadline;
+import pl.bartoszmech.domain.task.TaskPageOrder;
+import pl.bartoszmech.domain.task.repository.TaskRepository;
+import pl.bartoszmech.infrastructure.cache.RowChangeSubscriber;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+// Caches single task snapshots by id. Writes going through this repository evict locally, every other
+// change (other replicas, bulk SQL updates) arrives as a NOTIFY handled by RowChangeListener.
+public class CachingTaskRepository implements TaskRepository, RowChangeSubscriber {
+
+    public static final String CACHE_NAME = "tasks";
+    static final String CHANNEL = "task_changes";
+
+    private final TaskRepository delegate;
+    private final Cache<Long, Task> cache;
+    private final Counter invalidations;
+
+    public CachingTaskRepository(TaskRepository delegate, TaskCacheProperties properties, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.maxSize())
+                .expireAfterWrite(properties.ttl())
+                .recordStats()
+                .build();
+        this.invalidations = Counter.builder("cache.invalidations")
+                .description("Entries invalidated by task writes and change notifications")
+                .tag("cache", CACHE_NAME)
+                .register(meterRegistry);
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    @Override
+    public Optional<Task> findById(Long id) {
+        // writes run in a transaction and need the current, managed row; they may also see their own uncommitted changes
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return delegate.findById(id);
+        }
+        Task cached = cache.getIfPresent(id);
+        if (cached != null) {
+            return Optional.of(copy(cached));
+        }
+        Optional<Task> task = delegate.findById(id);
+        task.ifPresent(found -> cache.put(id, copy(found)));
+        return task;
+    }
+
+    @Override
+    public Task save(Task entity) {
+        evict(entity.getId());
+        return delegate.save(entity);
+    }
+
+    @Override
+    public List<Task> saveAll(List<Task> tasks) {
+        tasks.forEach(task -> evict(task.getId()));
+        return delegate.saveAll(tasks);
+    }
+
+    @Override
+    public Optional<LocalDateTime> completePendingTask(Long id, Long assignedTo, LocalDateTime now) {
+        Optional<LocalDateTime> completedAt = delegate.completePendingTask(id, assignedTo, now);
+        completedAt.ifPresent(ignored -> evict(id));
+        return completedAt;
+    }
+
+    @Override
+    public List<Long> completePendingTasks(Long assignedTo, Collection<Long> ids, LocalDateTime now) {
+        List<Long> completedIds = delegate.completePendingTasks(assignedTo, ids, now);
+        completedIds.forEach(this::evict);
+        return completedIds;
+    }
+
+    @Override
+    public int failOutdatedPendingTasks(LocalDateTime now, int limit) {
+        return delegate.failOutdatedPendingTasks(now, limit);
+    }
+
+    @Override
+    public int failOutdatedPendingTasksBetween(LocalDateTime now, Long fromId, Long toId) {
+        return delegate.failOutdatedPendingTasksBetween(now, fromId, toId);
+    }
+
+    @Override
+    public int failPendingTasksDueBefore(List<Long> ids, LocalDateTime now) {
+        int failed = delegate.failPendingTasksDueBefore(ids, now);
+        if (failed > 0) {
+            ids.forEach(this::evict);
+        }
+        return failed;
+    }
+
+    @Override
+    public void deleteById(Long id) {
+        evict(id);
+        delegate.deleteById(id);
+    }
+
+    @Override
+    public String table() {
+        return "tasks";
+    }
+
+    @Override
+    public String channel() {
+        return CHANNEL;
+    }
+
+    @Override
+    public void invalidate(Long id) {
+        if (cache.asMap().remove(id) != null) {
+            invalidations.increment();
+        }
+    }
+
+    @Override
+    public void invalidateAll() {
+        invalidations.increment(cache.estimatedSize());
+        cache.invalidateAll();
+    }
+
+    // evicts now and once more after commit, so a concurrent read cannot cache the row being replaced
+    private void evict(Long id) {
+        if (id == null) {
+            return;
+        }
+        invalidate(id);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    invalidate(id);
+                }
+            });
+        }
+    }
+
+    private static Task copy(Task task) {
+        return new Task(task.getId(), task.getTitle(), task.getDescription(), task.getStatus(), task.getStartDate(),
+                task.getEndDate(), task.getCompletedAt(), task.getAssignedTo(), task.getVersion());
+    }
+
+    @Override
+    public List<Task> findAll() {
+        return delegate.findAll();
+    }
+
+    @Override
+    public List<Task> findPage(TaskPageOrder order, TaskCursor after, int limit) {
+        return delegate.findPage(order, after, limit);
+    }
+
+    @Override
+    public List<Task> findByAssignedTo(Long assignedTo) {
+        return delegate.findByAssignedTo(assignedTo);
+    }
+
+    @Override
+    public List<Task> findPageByAssignedTo(Long assignedTo, TaskPageOrder order, TaskCursor after, int limit) {
+        return delegate.findPageByAssignedTo(assignedTo, order, after, limit);
+    }
+
+    @Override
+    public List<Task> findAllByAssignedToAndIdIn(Long assignedTo, Collection<Long> ids) {
+        return delegate.findAllByAssignedToAndIdIn(assignedTo, ids);
+    }
+
+    @Override
+    public boolean existsByAssignedToAndTitle(Long assignedTo, String title) {
+        return delegate.existsByAssignedToAndTitle(assignedTo, title);
+    }
+
+    @Override
+    public boolean existsByAssignedToAndTitleAndIdNot(Long assignedTo, String title, Long id) {
+        return delegate.existsByAssignedToAndTitleAndIdNot(assignedTo, title, id);
+    }
+
+    @Override
+    public List<TaskAssignment> findAssignments(Collection<Long> assignees, Collection<String> titles) {
+        return delegate.findAssignments(assignees, titles);
+    }
+
+    @Override
+    public List<TaskDeadline> findPendingDeadlinesBefore(LocalDateTime until) {
+        return delegate.findPendingDeadlinesBefore(until);
+    }
+
+    @Override
+    public List<CompletedTasksCount> countCompletedByAssignedToEndingBetween(LocalDateTime after, LocalDateTime before) {
+        return delegate.countCompletedByAssignedToEndingBetween(after, before);
+    }
+
+}
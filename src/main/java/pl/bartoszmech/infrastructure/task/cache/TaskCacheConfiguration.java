@@ -0,0 +1,18 @@
+package pl.bartoszmech.infrastructure.task.cache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import pl.bartoszmech.infrastructure.task.repository.TaskRepositoryImpl;
+
+@Configuration
+public class TaskCacheConfiguration {
+
+    @Bean
+    @Primary
+    public CachingTaskRepository cachingTaskRepository(TaskRepositoryImpl repository, TaskCacheProperties properties, MeterRegistry meterRegistry) {
+        return new CachingTaskRepository(repository, properties, meterRegistry);
+    }
+
+}
@@ -0,0 +1,13 @@
+package pl.bartoszmech.infrastructure.task.cache;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(value = "task.cache")
+public record TaskCacheProperties(
+
+        long maxSize,
+        Duration ttl
+
+) {}
@@ -2,6 +2,8 @@ package pl.bartoszmech.infrastructure.task.configuration;
 
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import pl.bartoszmech.domain.task.TaskDeadlineTracker;
+import pl.bartoszmech.domain.task.repository.TaskCompletionRollupRepository;
 import pl.bartoszmech.domain.task.repository.TaskRepository;
 import pl.bartoszmech.domain.task.service.TaskService;
 import pl.bartoszmech.domain.task.service.TaskServiceImpl;
@@ -12,8 +14,9 @@ import java.time.Clock;
 public class TaskConfiguration {
 
     @Bean
-    public TaskService createTaskService(TaskRepository repository, Clock clock) {
-        return new TaskServiceImpl(repository, clock);
+    public TaskService createTaskService(TaskRepository repository, Clock clock, TaskDeadlineTracker deadlineTracker,
+                                         TaskCompletionRollupRepository rollupRepository) {
+        return new TaskServiceImpl(repository, clock, deadlineTracker, rollupRepository);
     }
 
 }
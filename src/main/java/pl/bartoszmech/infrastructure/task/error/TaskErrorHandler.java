@@ -1,13 +1,24 @@
 package pl.bartoszmech.infrastructure.task.error;
 
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.ResponseBody;
+import pl.bartoszmech.domain.task.DuplicateUserTaskException;
+import pl.bartoszmech.domain.task.InvalidTaskCursorException;
+import pl.bartoszmech.infrastructure.apivalidation.EntityVersionTag;
+import pl.bartoszmech.infrastructure.apivalidation.PreconditionFailed;
 import pl.bartoszmech.infrastructure.apivalidation.ResourceNotFound;
 import pl.bartoszmech.application.response.TaskInfoResponseDto;
+import pl.bartoszmech.infrastructure.apivalidation.ValidationResponse;
 
+import java.util.List;
+
+import static org.springframework.http.HttpStatus.BAD_REQUEST;
+import static org.springframework.http.HttpStatus.CONFLICT;
 import static org.springframework.http.HttpStatus.NOT_FOUND;
+import static org.springframework.http.HttpStatus.PRECONDITION_FAILED;
 
 
 @ControllerAdvice
@@ -19,5 +30,28 @@ public class TaskErrorHandler {
         return ResponseEntity.status(404).body(new TaskInfoResponseDto(error.getMessage(), NOT_FOUND));
     }
 
-}
+    @ExceptionHandler(DuplicateUserTaskException.class)
+    @ResponseBody
+    public ResponseEntity<TaskInfoResponseDto> handleDuplicateUserTask(DuplicateUserTaskException error) {
+        return ResponseEntity.status(CONFLICT).body(new TaskInfoResponseDto(error.getMessage(), CONFLICT));
+    }
+
+    @ExceptionHandler(InvalidTaskCursorException.class)
+    @ResponseBody
+    public ResponseEntity<ValidationResponse> handleInvalidCursor(InvalidTaskCursorException error) {
+        return ResponseEntity.status(BAD_REQUEST).body(new ValidationResponse(List.of(error.getMessage())));
+    }
 
+    @ExceptionHandler(PreconditionFailed.class)
+    @ResponseBody
+    public ResponseEntity<TaskInfoResponseDto> handlePreconditionFailed(PreconditionFailed error) {
+        return ResponseEntity.status(PRECONDITION_FAILED).body(new TaskInfoResponseDto(error.getMessage(), PRECONDITION_FAILED));
+    }
+
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    @ResponseBody
+    public ResponseEntity<TaskInfoResponseDto> handleConcurrentModification(OptimisticLockingFailureException error) {
+        return ResponseEntity.status(PRECONDITION_FAILED).body(new TaskInfoResponseDto(EntityVersionTag.STALE_VERSION, PRECONDITION_FAILED));
+    }
+
+}
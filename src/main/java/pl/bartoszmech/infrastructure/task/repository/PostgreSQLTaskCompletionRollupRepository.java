@@ -0,0 +1,67 @@
+package pl.bartoszmech.infrastructure.task.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import pl.bartoszmech.domain.task.CompletedTasksCount;
+import pl.bartoszmech.domain.task.TaskCompletionRollup;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface PostgreSQLTaskCompletionRollupRepository extends JpaRepository<TaskCompletionRollup, Long> {
+
+    @Modifying
+    @Query(value = """
+            INSERT INTO task_completion_rollups (assigned_to, month_start, completed_tasks)
+            VALUES (:assignedTo, :monthStart, :delta)
+            ON CONFLICT (assigned_to, month_start)
+            DO UPDATE SET completed_tasks = task_completion_rollups.completed_tasks + EXCLUDED.completed_tasks
+            """, nativeQuery = true)
+    void upsertCompletedTasks(@Param("assignedTo") Long assignedTo, @Param("monthStart") LocalDate monthStart, @Param("delta") long delta);
+
+    @Query("""
+            SELECT new pl.bartoszmech.domain.task.CompletedTasksCount(r.assignedTo, SUM(r.completedTasks))
+            FROM TaskCompletionRollup r
+            WHERE r.monthStart >= :monthStart
+            GROUP BY r.assignedTo
+            HAVING SUM(r.completedTasks) > 0
+            """)
+    List<CompletedTasksCount> sumCompletedByAssignedToFromMonth(@Param("monthStart") LocalDate monthStart);
+
+    @Query(value = """
+            SELECT count(*) FROM (
+                SELECT assigned_to, CAST(date_trunc('month', end_date) AS date) AS month_start, count(*) AS completed_tasks
+                FROM tasks
+                WHERE status = 'COMPLETED'
+                GROUP BY 1, 2
+            ) actual
+            FULL OUTER JOIN (
+                SELECT assigned_to, month_start, completed_tasks FROM task_completion_rollups WHERE completed_tasks <> 0
+            ) rollups ON rollups.assigned_to = actual.assigned_to AND rollups.month_start = actual.month_start
+            WHERE actual.completed_tasks IS DISTINCT FROM rollups.completed_tasks
+            """, nativeQuery = true)
+    long countDrift();
+
+    @Modifying
+    @Query(value = "LOCK TABLE task_completion_rollups IN EXCLUSIVE MODE", nativeQuery = true)
+    void lockTable();
+
+    @Modifying
+    @Query(value = "DELETE FROM task_completion_rollups", nativeQuery = true)
+    void deleteAllRollups();
+
+    @Modifying
+    @Query(value = """
+            INSERT INTO task_completion_rollups (assigned_to, month_start, completed_tasks)
+            SELECT assigned_to, CAST(date_trunc('month', end_date) AS date), count(*)
+            FROM tasks
+            WHERE status = 'COMPLETED'
+            GROUP BY 1, 2
+            """, nativeQuery = true)
+    void insertRollupsFromTasks();
+
+}
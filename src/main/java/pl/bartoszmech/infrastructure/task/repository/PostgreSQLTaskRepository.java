@@ -1,9 +1,147 @@
 package pl.bartoszmech.infrastructure.task.repository;
 
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+import pl.bartoszmech.domain.task.CompletedTasksCount;
 import pl.bartoszmech.domain.task.Task;
+import pl.bartoszmech.domain.task.TaskAssignment;
+import pl.bartoszmech.domain.task.TaskDeadline;
+import pl.bartoszmech.domain.task.TaskStatus;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
 
 @Repository
 public interface PostgreSQLTaskRepository extends JpaRepository<Task, Long> {
+
+    // feeds the task cache, so it must not read a lagging replica
+    @Override
+    @Transactional
+    Optional<Task> findById(Long id);
+
+    @QueryHints(@QueryHint(name = HINT_READ_ONLY, value = "true"))
+    List<Task> findAll();
+
+    @QueryHints(@QueryHint(name = HINT_READ_ONLY, value = "true"))
+    List<Task> findAllByOrderByIdAsc(Pageable page);
+
+    @QueryHints(@QueryHint(name = HINT_READ_ONLY, value = "true"))
+    List<Task> findAllByIdGreaterThanOrderByIdAsc(Long id, Pageable page);
+
+    @QueryHints(@QueryHint(name = HINT_READ_ONLY, value = "true"))
+    List<Task> findAllByOrderByEndDateAscIdAsc(Pageable page);
+
+    @QueryHints(@QueryHint(name = HINT_READ_ONLY, value = "true"))
+    @Query("""
+            SELECT t FROM Task t
+            WHERE t.endDate > :endDate OR (t.endDate = :endDate AND t.id > :id)
+            ORDER BY t.endDate ASC, t.id ASC
+            """)
+    List<Task> findAllAfterEndDateOrderByEndDateAscIdAsc(@Param("endDate") LocalDateTime endDate, @Param("id") Long id, Pageable page);
+
+    @QueryHints(@QueryHint(name = HINT_READ_ONLY, value = "true"))
+    List<Task> findAllByAssignedTo(Long assignedTo);
+
+    boolean existsByAssignedToAndTitle(Long assignedTo, String title);
+
+    boolean existsByAssignedToAndTitleAndIdNot(Long assignedTo, String title, Long id);
+
+    List<Task> findAllByAssignedToAndIdIn(Long assignedTo, Collection<Long> ids);
+
+    @Query(value = """
+            UPDATE tasks SET status = 'COMPLETED', completed_at = :now, version = version + 1
+            WHERE id = :id AND assigned_to = :assignedTo AND status = 'PENDING'
+            RETURNING end_date
+            """, nativeQuery = true)
+    List<Timestamp> completePendingTask(@Param("id") Long id, @Param("assignedTo") Long assignedTo, @Param("now") LocalDateTime now);
+
+    @Query(value = """
+            UPDATE tasks SET status = 'COMPLETED', completed_at = :now, version = version + 1
+            WHERE assigned_to = :assignedTo AND id IN (:ids) AND status = 'PENDING'
+            RETURNING id
+            """, nativeQuery = true)
+    List<Long> completePendingTasks(@Param("assignedTo") Long assignedTo, @Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now);
+
+    @Query("""
+            SELECT new pl.bartoszmech.domain.task.TaskAssignment(t.assignedTo, t.title) FROM Task t
+            WHERE t.assignedTo IN :assignees AND t.title IN :titles
+            """)
+    List<TaskAssignment> findAssignments(@Param("assignees") Collection<Long> assignees, @Param("titles") Collection<String> titles);
+
+    @Query(value = """
+            SELECT setval('tasks_seq', (SELECT max(id) FROM tasks) + :allocationSize)
+            WHERE (SELECT max(id) FROM tasks) >= (SELECT last_value FROM tasks_seq)
+            """, nativeQuery = true)
+    Long alignIdSequence(@Param("allocationSize") int allocationSize);
+
+    @QueryHints(@QueryHint(name = HINT_READ_ONLY, value = "true"))
+    List<Task> findAllByAssignedToOrderByIdAsc(Long assignedTo, Pageable page);
+
+    @QueryHints(@QueryHint(name = HINT_READ_ONLY, value = "true"))
+    List<Task> findAllByAssignedToAndIdGreaterThanOrderByIdAsc(Long assignedTo, Long id, Pageable page);
+
+    @QueryHints(@QueryHint(name = HINT_READ_ONLY, value = "true"))
+    List<Task> findAllByAssignedToOrderByEndDateAscIdAsc(Long assignedTo, Pageable page);
+
+    @QueryHints(@QueryHint(name = HINT_READ_ONLY, value = "true"))
+    @Query("""
+            SELECT t FROM Task t
+            WHERE t.assignedTo = :assignedTo
+            AND (t.endDate > :endDate OR (t.endDate = :endDate AND t.id > :id))
+            ORDER BY t.endDate ASC, t.id ASC
+            """)
+    List<Task> findAllByAssignedToAfterEndDateOrderByEndDateAscIdAsc(@Param("assignedTo") Long assignedTo, @Param("endDate") LocalDateTime endDate, @Param("id") Long id, Pageable page);
+
+    @Modifying
+    @Query(value = """
+            UPDATE tasks SET status = 'FAILED', version = version + 1
+            WHERE id IN (
+                SELECT id FROM tasks
+                WHERE status = 'PENDING' AND end_date < :now
+                ORDER BY id
+                LIMIT :limit
+                FOR UPDATE SKIP LOCKED
+            )
+            """, nativeQuery = true)
+    int failOutdatedPendingTasks(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    @Modifying
+    @Query(value = """
+            UPDATE tasks SET status = 'FAILED', version = version + 1
+            WHERE status = 'PENDING' AND end_date < :now AND id >= :fromId AND id < :toId
+            """, nativeQuery = true)
+    int failOutdatedPendingTasksBetween(@Param("now") LocalDateTime now, @Param("fromId") Long fromId, @Param("toId") Long toId);
+
+    @Query("""
+            SELECT new pl.bartoszmech.domain.task.TaskDeadline(t.id, t.endDate) FROM Task t
+            WHERE t.status = :status AND t.endDate < :until
+            """)
+    List<TaskDeadline> findDeadlinesByStatusBefore(@Param("status") TaskStatus status, @Param("until") LocalDateTime until);
+
+    @Modifying
+    @Query(value = """
+            UPDATE tasks SET status = 'FAILED', version = version + 1
+            WHERE id IN (:ids) AND status = 'PENDING' AND end_date < :now
+            """, nativeQuery = true)
+    int failPendingTasksDueBefore(@Param("ids") List<Long> ids, @Param("now") LocalDateTime now);
+
+    @Query("""
+            SELECT new pl.bartoszmech.domain.task.CompletedTasksCount(t.assignedTo, COUNT(t)) FROM Task t
+            WHERE t.status = :status AND t.endDate > :after AND t.endDate < :before
+            GROUP BY t.assignedTo
+            """)
+    List<CompletedTasksCount> countByStatusAndEndDateBetweenGroupByAssignedTo(@Param("status") TaskStatus status, @Param("after") LocalDateTime after, @Param("before") LocalDateTime before);
+
 }
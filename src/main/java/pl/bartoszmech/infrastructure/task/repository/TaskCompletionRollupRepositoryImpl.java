@@ -0,0 +1,42 @@
+package pl.bartoszmech.infrastructure.task.repository;
+
+import lombok.AllArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import pl.bartoszmech.domain.task.CompletedTasksCount;
+import pl.bartoszmech.domain.task.repository.TaskCompletionRollupRepository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@AllArgsConstructor
+@Component
+public class TaskCompletionRollupRepositoryImpl implements TaskCompletionRollupRepository {
+
+    private final PostgreSQLTaskCompletionRollupRepository repository;
+
+    @Override
+    @Transactional
+    public void addCompletedTasks(Long assignedTo, LocalDate monthStart, long delta) {
+        repository.upsertCompletedTasks(assignedTo, monthStart, delta);
+    }
+
+    @Override
+    public List<CompletedTasksCount> sumCompletedByAssignedToFromMonth(LocalDate monthStart) {
+        return repository.sumCompletedByAssignedToFromMonth(monthStart);
+    }
+
+    @Override
+    public long countDrift() {
+        return repository.countDrift();
+    }
+
+    @Override
+    @Transactional
+    public void rebuild() {
+        repository.lockTable();
+        repository.deleteAllRollups();
+        repository.insertRollupsFromTasks();
+    }
+
+}
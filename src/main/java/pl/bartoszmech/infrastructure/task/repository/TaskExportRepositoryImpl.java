@@ -0,0 +1,86 @@
+package pl.bartoszmech.infrastructure.task.repository;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import pl.bartoszmech.domain.task.Task;
+import pl.bartoszmech.domain.task.TaskExportFilter;
+import pl.bartoszmech.domain.task.TaskStatus;
+import pl.bartoszmech.domain.task.repository.TaskExportRepository;
+
+import javax.sql.DataSource;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+@Component
+public class TaskExportRepositoryImpl implements TaskExportRepository {
+
+    private static final int FETCH_SIZE = 1000;
+    private static final String SELECT_TASKS = """
+            SELECT id, title, description, status, start_date, end_date, completed_at, assigned_to, version
+            FROM tasks
+            WHERE 1 = 1
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    public TaskExportRepositoryImpl(DataSource dataSource, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(FETCH_SIZE);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+    }
+
+    @Override
+    public void streamTasks(TaskExportFilter filter, Consumer<Task> consumer) {
+        StringBuilder sql = new StringBuilder(SELECT_TASKS);
+        List<Object> parameters = new ArrayList<>();
+        if (filter.status() != null) {
+            sql.append(" AND status = ?");
+            parameters.add(filter.status().name());
+        }
+        if (filter.assignedTo() != null) {
+            sql.append(" AND assigned_to = ?");
+            parameters.add(filter.assignedTo());
+        }
+        if (filter.endAfter() != null) {
+            sql.append(" AND end_date > ?");
+            parameters.add(Timestamp.valueOf(filter.endAfter()));
+        }
+        if (filter.endBefore() != null) {
+            sql.append(" AND end_date < ?");
+            parameters.add(Timestamp.valueOf(filter.endBefore()));
+        }
+        sql.append(" ORDER BY id");
+        transactionTemplate.executeWithoutResult(status ->
+                jdbcTemplate.query(sql.toString(), (RowCallbackHandler) resultSet -> consumer.accept(mapTask(resultSet)), parameters.toArray())
+        );
+    }
+
+    private Task mapTask(ResultSet resultSet) throws SQLException {
+        return new Task(
+                resultSet.getLong("id"),
+                resultSet.getString("title"),
+                resultSet.getString("description"),
+                TaskStatus.valueOf(resultSet.getString("status")),
+                toLocalDateTime(resultSet.getTimestamp("start_date")),
+                toLocalDateTime(resultSet.getTimestamp("end_date")),
+                toLocalDateTime(resultSet.getTimestamp("completed_at")),
+                resultSet.getObject("assigned_to", Long.class),
+                resultSet.getObject("version", Long.class)
+        );
+    }
+
+    private LocalDateTime toLocalDateTime(Timestamp timestamp) {
+        return timestamp == null ? null : timestamp.toLocalDateTime();
+    }
+
+}
@@ -0,0 +1,24 @@
+package pl.bartoszmech.infrastructure.task.repository;
+
+import jakarta.annotation.PostConstruct;
+import lombok.AllArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.stereotype.Component;
+import pl.bartoszmech.domain.task.Task;
+
+@Component
+@AllArgsConstructor
+@Log4j2
+public class TaskIdSequenceAligner {
+
+    private final PostgreSQLTaskRepository repository;
+
+    @PostConstruct
+    public void alignIdSequence() {
+        Long alignedValue = repository.alignIdSequence(Task.ID_ALLOCATION_SIZE);
+        if (alignedValue != null) {
+            log.info("Moved {} past existing task ids to {}", Task.ID_SEQUENCE, alignedValue);
+        }
+    }
+
+}
@@ -1,11 +1,26 @@
 package pl.bartoszmech.infrastructure.task.repository;
 
 import lombok.AllArgsConstructor;
+import org.hibernate.exception.ConstraintViolationException;
 import org.springframework.context.annotation.Primary;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import pl.bartoszmech.domain.task.CompletedTasksCount;
+import pl.bartoszmech.domain.task.DuplicateUserTaskException;
 import pl.bartoszmech.domain.task.Task;
+import pl.bartoszmech.domain.task.TaskAssignment;
+import pl.bartoszmech.domain.task.TaskCursor;
+import pl.bartoszmech.domain.task.TaskDeadline;
+import pl.bartoszmech.domain.task.TaskPageOrder;
+import pl.bartoszmech.domain.task.TaskStatus;
 import pl.bartoszmech.domain.task.repository.TaskRepository;
 
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -17,7 +32,20 @@ public class TaskRepositoryImpl implements TaskRepository {
 
     @Override
     public Task save(Task entity) {
-        return repository.save(entity);
+        try {
+            return repository.saveAndFlush(entity);
+        } catch (DataIntegrityViolationException e) {
+            throw translateViolation(e);
+        }
+    }
+
+    @Override
+    public List<Task> saveAll(List<Task> tasks) {
+        try {
+            return repository.saveAllAndFlush(tasks);
+        } catch (DataIntegrityViolationException e) {
+            throw translateViolation(e);
+        }
     }
 
     @Override
@@ -30,9 +58,108 @@ public class TaskRepositoryImpl implements TaskRepository {
         return repository.findAll();
     }
 
+    @Override
+    public List<Task> findPage(TaskPageOrder order, TaskCursor after, int limit) {
+        Pageable page = PageRequest.ofSize(limit);
+        if (order == TaskPageOrder.END_DATE) {
+            return after == null
+                    ? repository.findAllByOrderByEndDateAscIdAsc(page)
+                    : repository.findAllAfterEndDateOrderByEndDateAscIdAsc(after.endDate(), after.id(), page);
+        }
+        return after == null
+                ? repository.findAllByOrderByIdAsc(page)
+                : repository.findAllByIdGreaterThanOrderByIdAsc(after.id(), page);
+    }
+
+    @Override
+    public List<Task> findByAssignedTo(Long assignedTo) {
+        return repository.findAllByAssignedTo(assignedTo);
+    }
+
+    @Override
+    public List<Task> findPageByAssignedTo(Long assignedTo, TaskPageOrder order, TaskCursor after, int limit) {
+        Pageable page = PageRequest.ofSize(limit);
+        if (order == TaskPageOrder.END_DATE) {
+            return after == null
+                    ? repository.findAllByAssignedToOrderByEndDateAscIdAsc(assignedTo, page)
+                    : repository.findAllByAssignedToAfterEndDateOrderByEndDateAscIdAsc(assignedTo, after.endDate(), after.id(), page);
+        }
+        return after == null
+                ? repository.findAllByAssignedToOrderByIdAsc(assignedTo, page)
+                : repository.findAllByAssignedToAndIdGreaterThanOrderByIdAsc(assignedTo, after.id(), page);
+    }
+
+    @Override
+    public List<Task> findAllByAssignedToAndIdIn(Long assignedTo, Collection<Long> ids) {
+        return repository.findAllByAssignedToAndIdIn(assignedTo, ids);
+    }
+
+    @Override
+    @Transactional
+    public Optional<LocalDateTime> completePendingTask(Long id, Long assignedTo, LocalDateTime now) {
+        return repository.completePendingTask(id, assignedTo, now).stream().findFirst().map(Timestamp::toLocalDateTime);
+    }
+
+    @Override
+    @Transactional
+    public List<Long> completePendingTasks(Long assignedTo, Collection<Long> ids, LocalDateTime now) {
+        return repository.completePendingTasks(assignedTo, ids, now);
+    }
+
+    @Override
+    public boolean existsByAssignedToAndTitle(Long assignedTo, String title) {
+        return repository.existsByAssignedToAndTitle(assignedTo, title);
+    }
+
+    @Override
+    public boolean existsByAssignedToAndTitleAndIdNot(Long assignedTo, String title, Long id) {
+        return repository.existsByAssignedToAndTitleAndIdNot(assignedTo, title, id);
+    }
+
+    @Override
+    @Transactional
+    public int failOutdatedPendingTasks(LocalDateTime now, int limit) {
+        return repository.failOutdatedPendingTasks(now, limit);
+    }
+
+    @Override
+    @Transactional
+    public int failOutdatedPendingTasksBetween(LocalDateTime now, Long fromId, Long toId) {
+        return repository.failOutdatedPendingTasksBetween(now, fromId, toId);
+    }
+
+    @Override
+    public List<TaskAssignment> findAssignments(Collection<Long> assignees, Collection<String> titles) {
+        return repository.findAssignments(assignees, titles);
+    }
+
+    @Override
+    public List<TaskDeadline> findPendingDeadlinesBefore(LocalDateTime until) {
+        return repository.findDeadlinesByStatusBefore(TaskStatus.PENDING, until);
+    }
+
+    @Override
+    @Transactional
+    public int failPendingTasksDueBefore(List<Long> ids, LocalDateTime now) {
+        return repository.failPendingTasksDueBefore(ids, now);
+    }
+
+    @Override
+    public List<CompletedTasksCount> countCompletedByAssignedToEndingBetween(LocalDateTime after, LocalDateTime before) {
+        return repository.countByStatusAndEndDateBetweenGroupByAssignedTo(TaskStatus.COMPLETED, after, before);
+    }
+
     @Override
     public void deleteById(Long id) {
         repository.deleteById(id);
     }
+
+    private RuntimeException translateViolation(DataIntegrityViolationException e) {
+        if (e.getCause() instanceof ConstraintViolationException violation
+                && Task.ASSIGNED_TO_TITLE_CONSTRAINT.equals(violation.getConstraintName())) {
+            return new DuplicateUserTaskException(DuplicateUserTaskException.TASK_DUPLICATE);
+        }
+        return e;
+    }
     
 }
@@ -0,0 +1,61 @@
+package pl.bartoszmech.infrastructure.task.repository;
+
+import io.r2dbc.spi.Readable;
+import lombok.AllArgsConstructor;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+import pl.bartoszmech.domain.task.Task;
+import pl.bartoszmech.domain.task.TaskStatus;
+import pl.bartoszmech.domain.task.repository.TaskStreamRepository;
+import reactor.core.publisher.Flux;
+
+import java.time.LocalDateTime;
+
+@Component
+@AllArgsConstructor
+public class TaskStreamRepositoryImpl implements TaskStreamRepository {
+
+    private static final int FETCH_SIZE = 250;
+    private static final String SELECT_TASKS = """
+            SELECT id, title, description, status, start_date, end_date, completed_at, assigned_to, version
+            FROM tasks
+            """;
+
+    private final DatabaseClient databaseClient;
+
+    @Override
+    public Flux<Task> streamTasks(TaskStatus status) {
+        if (status == null) {
+            return query(databaseClient.sql(SELECT_TASKS + "ORDER BY id"));
+        }
+        return query(databaseClient.sql(SELECT_TASKS + "WHERE status = :status ORDER BY id")
+                .bind("status", status.name()));
+    }
+
+    @Override
+    public Flux<Task> streamTasksByAssignedTo(Long assignedTo) {
+        return query(databaseClient.sql(SELECT_TASKS + "WHERE assigned_to = :assignedTo ORDER BY id")
+                .bind("assignedTo", assignedTo));
+    }
+
+    private Flux<Task> query(DatabaseClient.GenericExecuteSpec spec) {
+        return spec.filter(statement -> statement.fetchSize(FETCH_SIZE))
+                .map(this::mapTask)
+                .all();
+    }
+
+    private Task mapTask(Readable row) {
+        return new Task(
+                row.get("id", Long.class),
+                row.get("title", String.class),
+                row.get("description", String.class),
+                TaskStatus.valueOf(row.get("status", String.class)),
+                row.get("start_date", LocalDateTime.class),
+                row.get("end_date", LocalDateTime.class),
+                row.get("completed_at", LocalDateTime.class),
+                row.get("assigned_to", Long.class),
+                row.get("version", Long.class)
+        );
+    }
+
+}
@@ -0,0 +1,37 @@
+package pl.bartoszmech.infrastructure.task.scheduler;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+import static jakarta.persistence.GenerationType.IDENTITY;
+
+// task ids in [fromId, toId) that are checked against one deadline, planned by the lease holder and claimed by any instance
+@Getter
+@Entity
+@Table(name = "overdue_scan_shards")
+public class OverdueScanShard {
+
+    @Id
+    @GeneratedValue(strategy = IDENTITY)
+    private Long id;
+    private Long fromId;
+    private Long toId;
+    private LocalDateTime dueBefore;
+    private String completedBy;
+    private LocalDateTime completedAt;
+    private int failedTasks;
+
+    public OverdueScanShard() {}
+
+    public void complete(String owner, int failedTasks, LocalDateTime now) {
+        this.completedBy = owner;
+        this.failedTasks = failedTasks;
+        this.completedAt = now;
+    }
+
+}
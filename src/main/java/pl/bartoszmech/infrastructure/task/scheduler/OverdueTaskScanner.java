@@ -0,0 +1,43 @@
+package pl.bartoszmech.infrastructure.task.scheduler;
+
+import lombok.AllArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import pl.bartoszmech.domain.task.service.TaskService;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.OptionalInt;
+
+@Component
+@AllArgsConstructor
+public class OverdueTaskScanner {
+
+    private final PostgreSQLOverdueScanShardRepository repository;
+    private final TaskService service;
+    private final SchedulerLeases leases;
+    private final TaskScanProperties properties;
+    private final Clock clock;
+
+    // a run is planned only once every shard of the previous one is completed
+    @Transactional
+    public int planShards() {
+        if (repository.existsByCompletedAtIsNull()) {
+            return 0;
+        }
+        repository.deleteCompleted();
+        return repository.planShards(LocalDateTime.now(clock), properties.shardSize());
+    }
+
+    @Transactional
+    public OptionalInt processNextShard() {
+        return repository.claimNext()
+                .map(shard -> {
+                    int failedTasks = service.markAsFailedOutdatedTasks(shard.getFromId(), shard.getToId(), shard.getDueBefore());
+                    shard.complete(leases.getOwner(), failedTasks, LocalDateTime.now(clock));
+                    return OptionalInt.of(failedTasks);
+                })
+                .orElse(OptionalInt.empty());
+    }
+
+}
@@ -0,0 +1,42 @@
+package pl.bartoszmech.infrastructure.task.scheduler;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+@Repository
+public interface PostgreSQLOverdueScanShardRepository extends JpaRepository<OverdueScanShard, Long> {
+
+    boolean existsByCompletedAtIsNull();
+
+    @Modifying
+    @Query(value = "DELETE FROM overdue_scan_shards WHERE completed_at IS NOT NULL", nativeQuery = true)
+    void deleteCompleted();
+
+    @Modifying
+    @Query(value = """
+            INSERT INTO overdue_scan_shards (from_id, to_id, due_before, failed_tasks)
+            SELECT from_id, from_id + :shardSize, :dueBefore, 0
+            FROM (
+                SELECT min(id) AS min_id, max(id) AS max_id FROM tasks
+                WHERE status = 'PENDING' AND end_date < :dueBefore
+            ) bounds, generate_series(bounds.min_id, bounds.max_id, :shardSize) AS from_id
+            """, nativeQuery = true)
+    int planShards(@Param("dueBefore") LocalDateTime dueBefore, @Param("shardSize") long shardSize);
+
+    // the row lock is the claim, it lasts until the shard is completed and released with the instance if it dies
+    @Query(value = """
+            SELECT * FROM overdue_scan_shards
+            WHERE completed_at IS NULL
+            ORDER BY id
+            LIMIT 1
+            FOR UPDATE SKIP LOCKED
+            """, nativeQuery = true)
+    Optional<OverdueScanShard> claimNext();
+
+}
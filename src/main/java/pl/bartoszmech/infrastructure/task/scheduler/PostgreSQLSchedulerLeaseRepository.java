@@ -0,0 +1,29 @@
+package pl.bartoszmech.infrastructure.task.scheduler;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+@Repository
+public interface PostgreSQLSchedulerLeaseRepository extends JpaRepository<SchedulerLease, String> {
+
+    // concurrent upserts of one name are serialized on the row, the loser re-checks the condition and updates nothing
+    @Modifying
+    @Query(value = """
+            INSERT INTO scheduler_leases (name, owner, expires_at)
+            VALUES (:name, :owner, LOCALTIMESTAMP + make_interval(secs => :ttlSeconds))
+            ON CONFLICT (name)
+            DO UPDATE SET owner = EXCLUDED.owner, expires_at = EXCLUDED.expires_at
+            WHERE scheduler_leases.owner = EXCLUDED.owner OR scheduler_leases.expires_at < LOCALTIMESTAMP
+            """, nativeQuery = true)
+    int tryAcquire(@Param("name") String name, @Param("owner") String owner, @Param("ttlSeconds") long ttlSeconds);
+
+    @Modifying
+    @Transactional
+    @Query(value = "DELETE FROM scheduler_leases WHERE owner = :owner", nativeQuery = true)
+    int releaseAll(@Param("owner") String owner);
+
+}
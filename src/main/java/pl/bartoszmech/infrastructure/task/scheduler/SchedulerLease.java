@@ -0,0 +1,22 @@
+package pl.bartoszmech.infrastructure.task.scheduler;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Entity
+@Table(name = "scheduler_leases")
+public class SchedulerLease {
+
+    @Id
+    private String name;
+    private String owner;
+    private LocalDateTime expiresAt;
+
+    public SchedulerLease() {}
+
+}
@@ -0,0 +1,41 @@
+package pl.bartoszmech.infrastructure.task.scheduler;
+
+import jakarta.annotation.PreDestroy;
+import lombok.Getter;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.UUID;
+
+// a lease is held until it expires or its owner shuts down, renewing it keeps one instance in charge of a job
+@Component
+@Log4j2
+public class SchedulerLeases {
+
+    private final PostgreSQLSchedulerLeaseRepository repository;
+    @Getter
+    private final String owner;
+
+    public SchedulerLeases(PostgreSQLSchedulerLeaseRepository repository) {
+        this.repository = repository;
+        this.owner = ManagementFactory.getRuntimeMXBean().getName() + "/" + UUID.randomUUID().toString().substring(0, 8);
+    }
+
+    @Transactional
+    public boolean tryAcquire(String name, Duration ttl) {
+        return repository.tryAcquire(name, owner, ttl.toSeconds()) == 1;
+    }
+
+    // called on the bean itself, so the repository opens the transaction
+    @PreDestroy
+    public void releaseAll() {
+        int released = repository.releaseAll(owner);
+        if (released > 0) {
+            log.info("Released {} scheduler leases held by {}", released, owner);
+        }
+    }
+
+}
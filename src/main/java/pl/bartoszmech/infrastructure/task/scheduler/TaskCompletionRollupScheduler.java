@@ -0,0 +1,31 @@
+package pl.bartoszmech.infrastructure.task.scheduler;
+
+import lombok.AllArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import pl.bartoszmech.domain.task.repository.TaskCompletionRollupRepository;
+import pl.bartoszmech.infrastructure.datasource.Workload;
+
+@Component
+@AllArgsConstructor
+@Log4j2
+public class TaskCompletionRollupScheduler {
+
+    private final TaskCompletionRollupRepository repository;
+
+    @Scheduled(fixedDelayString = "${task.rollup.check.delay}")
+    public void checkCompletionRollups() {
+        try (Workload.Scope ignored = Workload.BACKGROUND.enter()) {
+            long drift = repository.countDrift();
+            if (drift == 0) {
+                log.info("Task completion rollups are consistent");
+                return;
+            }
+            log.warn("Found {} inconsistent task completion rollups, rebuilding", drift);
+            repository.rebuild();
+            log.info("Task completion rollups rebuilt");
+        }
+    }
+
+}
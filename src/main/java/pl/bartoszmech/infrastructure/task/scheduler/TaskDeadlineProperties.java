@@ -0,0 +1,13 @@
+package pl.bartoszmech.infrastructure.task.scheduler;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(value = "task.deadline")
+public record TaskDeadlineProperties(
+
+        boolean enabled,
+        Duration horizon
+
+) {}
@@ -0,0 +1,183 @@
+package pl.bartoszmech.infrastructure.task.scheduler;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+import pl.bartoszmech.domain.task.TaskDeadline;
+import pl.bartoszmech.domain.task.TaskDeadlineTracker;
+import pl.bartoszmech.domain.task.repository.TaskRepository;
+import pl.bartoszmech.infrastructure.datasource.Workload;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+@Component
+@Log4j2
+public class TaskDeadlineScheduler implements TaskDeadlineTracker {
+
+    private static final int FAIL_CHUNK_SIZE = 500;
+
+    private final TaskRepository repository;
+    private final Clock clock;
+    private final TaskDeadlineProperties properties;
+    private final ScheduledExecutorService executor;
+    private final PriorityQueue<TaskDeadline> queue = new PriorityQueue<>(Comparator.comparing(TaskDeadline::endDate));
+    private final Map<Long, LocalDateTime> deadlines = new HashMap<>();
+    private final ReentrantLock lock = new ReentrantLock();
+    private LocalDateTime horizonEnd;
+    private LocalDateTime nextFireAt;
+    private ScheduledFuture<?> nextFire;
+
+    public TaskDeadlineScheduler(TaskRepository repository, Clock clock, TaskDeadlineProperties properties, Environment environment) {
+        this.repository = repository;
+        this.clock = clock;
+        this.properties = properties;
+        this.executor = Executors.newSingleThreadScheduledExecutor(createThreadFactory(environment));
+    }
+
+    private static Runnable asBackgroundJob(Runnable job) {
+        return () -> {
+            try (Workload.Scope ignored = Workload.BACKGROUND.enter()) {
+                job.run();
+            }
+        };
+    }
+
+    private static ThreadFactory createThreadFactory(Environment environment) {
+        if (Threading.VIRTUAL.isActive(environment)) {
+            return Thread.ofVirtual().name("task-deadline").factory();
+        }
+        return Thread.ofPlatform().name("task-deadline").daemon().factory();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!properties.enabled()) {
+            return;
+        }
+        long refillDelay = properties.horizon().dividedBy(2).toMillis();
+        executor.scheduleWithFixedDelay(asBackgroundJob(this::refill), 0, refillDelay, MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        executor.shutdownNow();
+    }
+
+    @Override
+    public void track(Long taskId, LocalDateTime endDate) {
+        lock.lock();
+        try {
+            if (horizonEnd == null || endDate.isAfter(horizonEnd)) {
+                deadlines.remove(taskId);
+                return;
+            }
+            deadlines.put(taskId, endDate);
+            queue.add(new TaskDeadline(taskId, endDate));
+            scheduleNext();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void untrack(Long taskId) {
+        lock.lock();
+        try {
+            deadlines.remove(taskId);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void refill() {
+        try {
+            LocalDateTime until = LocalDateTime.now(clock).plus(properties.horizon());
+            lock.lock();
+            try {
+                horizonEnd = until;
+            } finally {
+                lock.unlock();
+            }
+            List<TaskDeadline> upcoming = repository.findPendingDeadlinesBefore(until);
+            lock.lock();
+            try {
+                upcoming.stream()
+                        .filter(deadline -> deadlines.putIfAbsent(deadline.id(), deadline.endDate()) == null)
+                        .forEach(queue::add);
+                scheduleNext();
+            } finally {
+                lock.unlock();
+            }
+            log.info("Tracking {} task deadlines until {}", upcoming.size(), until);
+        } catch (RuntimeException e) {
+            log.error("Could not load upcoming task deadlines", e);
+        }
+    }
+
+    private void scheduleNext() {
+        TaskDeadline head = queue.peek();
+        if (head == null) {
+            return;
+        }
+        if (nextFire != null && !nextFire.isDone() && !head.endDate().isBefore(nextFireAt)) {
+            return;
+        }
+        if (nextFire != null) {
+            nextFire.cancel(false);
+        }
+        nextFireAt = head.endDate();
+        long delay = Math.max(0, Duration.between(LocalDateTime.now(clock), nextFireAt).toMillis() + 1);
+        nextFire = executor.schedule(asBackgroundJob(this::failDueTasks), delay, MILLISECONDS);
+    }
+
+    private void failDueTasks() {
+        LocalDateTime now = LocalDateTime.now(clock);
+        List<Long> dueTaskIds = new ArrayList<>();
+        lock.lock();
+        try {
+            while (!queue.isEmpty() && queue.peek().endDate().isBefore(now)) {
+                TaskDeadline deadline = queue.poll();
+                if (deadline.endDate().equals(deadlines.get(deadline.id()))) {
+                    deadlines.remove(deadline.id());
+                    dueTaskIds.add(deadline.id());
+                }
+            }
+            nextFire = null;
+            scheduleNext();
+        } finally {
+            lock.unlock();
+        }
+        try {
+            int failedTasks = 0;
+            for (int from = 0; from < dueTaskIds.size(); from += FAIL_CHUNK_SIZE) {
+                List<Long> chunk = dueTaskIds.subList(from, Math.min(from + FAIL_CHUNK_SIZE, dueTaskIds.size()));
+                failedTasks += repository.failPendingTasksDueBefore(chunk, now);
+            }
+            if (failedTasks > 0) {
+                log.info("{} tasks reached their deadline and were marked as failed", failedTasks);
+            }
+        } catch (RuntimeException e) {
+            log.error("Could not mark tasks past their deadline as failed, leaving them to the periodic sweep", e);
+        }
+    }
+
+}
@@ -0,0 +1,14 @@
+package pl.bartoszmech.infrastructure.task.scheduler;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(value = "task.status.scan")
+public record TaskScanProperties(
+
+        Duration leaseTtl,
+        boolean sharded,
+        long shardSize
+
+) {}
@@ -5,19 +5,62 @@ import lombok.extern.log4j.Log4j2;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 import pl.bartoszmech.domain.task.service.TaskService;
+import pl.bartoszmech.infrastructure.datasource.Workload;
 
+import java.util.OptionalInt;
+
+// every instance runs this schedule, only the holder of the lease scans for overdue tasks or, when sharded,
+// splits the scan into shards that every instance claims
 @Component
 @AllArgsConstructor
 @Log4j2
 public class TaskStatusScheduler  {
 
+    static final String LEASE = "overdue-task-scan";
+
     private final TaskService service;
+    private final SchedulerLeases leases;
+    private final OverdueTaskScanner scanner;
+    private final TaskScanProperties properties;
 
     @Scheduled(fixedDelayString = "${task.status.update.delay}")
     public void updateTaskStatus() {
-        log.info("Updating task status");
-        service.markAsFailedOutdatedTasks();
-        log.info("Task status updated");
+        try (Workload.Scope ignored = Workload.BACKGROUND.enter()) {
+            if (!leases.tryAcquire(LEASE, properties.leaseTtl())) {
+                log.info("Skipping task status update, another instance holds the {} lease", LEASE);
+                return;
+            }
+            log.info("Updating task status");
+            if (properties.sharded()) {
+                log.info("Planned {} overdue task shards", scanner.planShards());
+                log.info("Task status updated, {} outdated tasks marked as failed", processShards());
+                return;
+            }
+            int failedTasks = service.markAsFailedOutdatedTasks();
+            log.info("Task status updated, {} outdated tasks marked as failed", failedTasks);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${task.status.scan.shard-poll-delay}")
+    public void claimShards() {
+        if (!properties.sharded()) {
+            return;
+        }
+        try (Workload.Scope ignored = Workload.BACKGROUND.enter()) {
+            int failedTasks = processShards();
+            if (failedTasks > 0) {
+                log.info("Claimed overdue task shards, {} outdated tasks marked as failed", failedTasks);
+            }
+        }
+    }
+
+    public int processShards() {
+        int failedTasks = 0;
+        OptionalInt failedInShard;
+        while ((failedInShard = scanner.processNextShard()).isPresent()) {
+            failedTasks += failedInShard.getAsInt();
+        }
+        return failedTasks;
     }
 
 }
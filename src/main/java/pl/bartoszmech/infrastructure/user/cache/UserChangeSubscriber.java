@@ -0,0 +1,49 @@
+package pl.bartoszmech.infrastructure.user.cache;
+
+import lombok.AllArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import pl.bartoszmech.infrastructure.cache.RowChangeSubscriber;
+import pl.bartoszmech.infrastructure.security.jwt.UserRoleCache;
+
+import static pl.bartoszmech.domain.user.service.UserServiceImpl.USERS_BY_ID_CACHE;
+
+// Users changed on any node leave the users-by-id cache, whose versions back the ETags,
+// and the role cache that authorizes tokens
+@Component
+@AllArgsConstructor
+public class UserChangeSubscriber implements RowChangeSubscriber {
+
+    static final String CHANNEL = "user_changes";
+
+    private final CacheManager cacheManager;
+    private final UserRoleCache userRoleCache;
+
+    @Override
+    public String table() {
+        return "users";
+    }
+
+    @Override
+    public String channel() {
+        return CHANNEL;
+    }
+
+    @Override
+    public void invalidate(Long id) {
+        usersById().evict(id);
+        userRoleCache.evict(id);
+    }
+
+    @Override
+    public void invalidateAll() {
+        usersById().clear();
+        userRoleCache.invalidateAll();
+    }
+
+    private Cache usersById() {
+        return cacheManager.getCache(USERS_BY_ID_CACHE);
+    }
+
+}
@@ -0,0 +1,32 @@
+package pl.bartoszmech.infrastructure.user.configuration;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import static pl.bartoszmech.domain.user.service.UserServiceImpl.USERS_BY_ID_CACHE;
+
+// The caching advisor wraps the transactional one, so @CacheEvict runs once the transaction has committed,
+// UserChangeSubscriber evicts again when the NOTIFY of that commit arrives on this and every other node
+@Configuration
+@EnableCaching(order = Ordered.LOWEST_PRECEDENCE - 1)
+public class UserCacheConfiguration {
+
+    // evictions inside an outer transaction still wait for its commit
+    @Bean
+    public CacheManager cacheManager(UserCacheProperties properties) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager(USERS_BY_ID_CACHE);
+        cacheManager.setCaffeine(Caffeine.newBuilder()
+                .maximumSize(properties.maxSize())
+                .expireAfterWrite(properties.ttl())
+                .recordStats());
+        cacheManager.setAllowNullValues(false);
+        return new TransactionAwareCacheManagerProxy(cacheManager);
+    }
+
+}
@@ -0,0 +1,13 @@
+package pl.bartoszmech.infrastructure.user.configuration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(value = "user.cache")
+public record UserCacheProperties(
+
+        long maxSize,
+        Duration ttl
+
+) {}
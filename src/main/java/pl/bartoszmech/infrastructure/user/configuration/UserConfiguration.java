@@ -1,5 +1,6 @@
 package pl.bartoszmech.infrastructure.user.configuration;
 
+import jakarta.annotation.PreDestroy;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -7,12 +8,32 @@ import pl.bartoszmech.domain.user.repository.UserRepository;
 import pl.bartoszmech.domain.user.service.UserService;
 import pl.bartoszmech.domain.user.service.UserServiceImpl;
 
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
 @Configuration
 public class UserConfiguration {
 
+    private final ExecutorService passwordHashingExecutor = createPasswordHashingExecutor();
+
     @Bean
     public UserService createUserService(UserRepository repository, PasswordEncoder passwordEncoder) {
-        return new UserServiceImpl(repository, passwordEncoder);
+        return new UserServiceImpl(repository, passwordEncoder, passwordHashingExecutor);
+    }
+
+    @PreDestroy
+    public void stopPasswordHashing() {
+        passwordHashingExecutor.shutdown();
+    }
+
+    private static ExecutorService createPasswordHashingExecutor() {
+        AtomicInteger threadNumber = new AtomicInteger();
+        return Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors(), runnable -> {
+            Thread thread = new Thread(runnable, "password-hashing-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
     }
 
 }
@@ -1,15 +1,42 @@
 package pl.bartoszmech.infrastructure.user.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+import pl.bartoszmech.application.response.UserResponseDto;
 import pl.bartoszmech.domain.user.User;
+import pl.bartoszmech.domain.user.UserRoles;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface PostgreSQLUserRepository extends JpaRepository<User, Long> {
 
+    // feeds the user cache, so it must not read a lagging replica
+    @Override
+    @Transactional
+    Optional<User> findById(Long id);
+
     boolean existsByEmail(String email);
     Optional<User> findByEmail(String email);
 
+    @Query("SELECT u.email FROM User u WHERE u.email IN :emails")
+    List<String> findExistingEmails(@Param("emails") Collection<String> emails);
+
+    @Query("""
+            SELECT new pl.bartoszmech.application.response.UserResponseDto(u.id, u.firstName, u.lastName, u.email, u.role, u.version)
+            FROM User u WHERE u.role IN :roles ORDER BY u.id
+            """)
+    List<UserResponseDto> findResponsesByRoleIn(@Param("roles") Collection<UserRoles> roles);
+
+    @Query(value = """
+            SELECT setval('users_seq', (SELECT max(id) FROM users) + :allocationSize)
+            WHERE (SELECT max(id) FROM users) >= (SELECT last_value FROM users_seq)
+            """, nativeQuery = true)
+    Long alignIdSequence(@Param("allocationSize") int allocationSize);
+
 }
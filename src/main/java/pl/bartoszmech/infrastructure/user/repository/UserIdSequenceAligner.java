@@ -0,0 +1,24 @@
+package pl.bartoszmech.infrastructure.user.repository;
+
+import jakarta.annotation.PostConstruct;
+import lombok.AllArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.stereotype.Component;
+import pl.bartoszmech.domain.user.User;
+
+@Component
+@AllArgsConstructor
+@Log4j2
+public class UserIdSequenceAligner {
+
+    private final PostgreSQLUserRepository repository;
+
+    @PostConstruct
+    public void alignIdSequence() {
+        Long alignedValue = repository.alignIdSequence(User.ID_ALLOCATION_SIZE);
+        if (alignedValue != null) {
+            log.info("Moved {} past existing user ids to {}", User.ID_SEQUENCE, alignedValue);
+        }
+    }
+
+}
@@ -1,11 +1,17 @@
 package pl.bartoszmech.infrastructure.user.repository;
 
 import lombok.AllArgsConstructor;
+import org.hibernate.exception.ConstraintViolationException;
 import org.springframework.context.annotation.Primary;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Component;
+import pl.bartoszmech.application.response.UserResponseDto;
+import pl.bartoszmech.domain.user.EmailTakenException;
 import pl.bartoszmech.domain.user.User;
+import pl.bartoszmech.domain.user.UserRoles;
 import pl.bartoszmech.domain.user.repository.UserRepository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -28,7 +34,20 @@ public class UserRepositoryImpl implements UserRepository {
 
     @Override
     public User save(User inputUser) {
-        return repository.save(inputUser);
+        try {
+            return repository.saveAndFlush(inputUser);
+        } catch (DataIntegrityViolationException e) {
+            throw translateViolation(e);
+        }
+    }
+
+    @Override
+    public List<User> saveAll(List<User> newUsers) {
+        try {
+            return repository.saveAllAndFlush(newUsers);
+        } catch (DataIntegrityViolationException e) {
+            throw translateViolation(e);
+        }
     }
 
     @Override
@@ -36,14 +55,37 @@ public class UserRepositoryImpl implements UserRepository {
         return repository.existsByEmail(email);
     }
 
+    @Override
+    public List<String> findExistingEmails(Collection<String> emails) {
+        return repository.findExistingEmails(emails);
+    }
+
     @Override
     public List<User> findAll() {
         return repository.findAll();
     }
 
+    @Override
+    public List<User> findAllByIds(Collection<Long> ids) {
+        return repository.findAllById(ids);
+    }
+
+    @Override
+    public List<UserResponseDto> findResponsesByRoleIn(Collection<UserRoles> roles) {
+        return repository.findResponsesByRoleIn(roles);
+    }
+
     @Override
     public void deleteById(Long id) {
         repository.deleteById(id);
     }
 
+    private RuntimeException translateViolation(DataIntegrityViolationException e) {
+        if (e.getCause() instanceof ConstraintViolationException violation
+                && User.EMAIL_CONSTRAINT.equals(violation.getConstraintName())) {
+            return new EmailTakenException(EmailTakenException.EMAIL_TAKEN);
+        }
+        return e;
+    }
+
 }
@@ -10,6 +10,7 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Component;
 import org.testcontainers.containers.PostgreSQLContainer;
 import pl.bartoszmech.domain.task.Task;
+import pl.bartoszmech.domain.task.repository.TaskCompletionRollupRepository;
 import pl.bartoszmech.domain.task.repository.TaskRepository;
 import pl.bartoszmech.domain.user.User;
 import pl.bartoszmech.domain.user.repository.UserRepository;
@@ -35,7 +36,10 @@ class TestcontainersInitializer implements ApplicationContextInitializer<Configu
         TestPropertyValues.of(
                 "spring.datasource.url=" + postgres.getJdbcUrl(),
                 "spring.datasource.username=" + postgres.getUsername(),
-                "spring.datasource.password=" + postgres.getPassword()
+                "spring.datasource.password=" + postgres.getPassword(),
+                "spring.r2dbc.url=r2dbc:postgresql://" + postgres.getHost() + ":" + postgres.getFirstMappedPort() + "/" + postgres.getDatabaseName(),
+                "spring.r2dbc.username=" + postgres.getUsername(),
+                "spring.r2dbc.password=" + postgres.getPassword()
         ).applyTo(ctx.getEnvironment());
     }
 
@@ -44,27 +48,34 @@ class TestcontainersInitializer implements ApplicationContextInitializer<Configu
     @Autowired
     private TaskRepository taskRepository;
     @Autowired
+    private TaskCompletionRollupRepository taskCompletionRollupRepository;
+    @Autowired
     private PasswordEncoder passwordEncoder;
 
     @EventListener(ContextRefreshedEvent.class)
     public void onBootApp() {
-        //ID is reserved 1-ADMIN, 2-MANAGER, (3-5)-EMPLOYEE
+        //another instance started against the same database finds it already seeded
+        if (userRepository.existsByEmail("admin@example.com")) {
+            return;
+        }
+        //ids come from fresh sequences in this order, ID is reserved 1-ADMIN, 2-MANAGER, (3-5)-EMPLOYEE
         Arrays.asList(
-                new User(1L,"John" , "Doe", "admin@example.com", passwordEncoder.encode("123456"), ADMIN),
-                new User(2L,"Jane" , "Doe", "JaneDoe@example.com", "123456", MANAGER),
-                new User(3L,"Peter" , "Jones", "PeterJones@example.com", passwordEncoder.encode("123456"), EMPLOYEE),
-                new User(4L,"Mary" , "Smith", "MarySmith@example.com", "123456", EMPLOYEE),
-                new User(5L,"Michael" , "Brown", "MichaelBrown@example.com", "123456", EMPLOYEE)
+                new User("John" , "Doe", "admin@example.com", passwordEncoder.encode("123456"), ADMIN),
+                new User("Jane" , "Doe", "JaneDoe@example.com", "123456", MANAGER),
+                new User("Peter" , "Jones", "PeterJones@example.com", passwordEncoder.encode("123456"), EMPLOYEE),
+                new User("Mary" , "Smith", "MarySmith@example.com", "123456", EMPLOYEE),
+                new User("Michael" , "Brown", "MichaelBrown@example.com", "123456", EMPLOYEE)
         ).forEach(user -> userRepository.save(user));
 
         //DO NOT ASSIGN TASK TO ID 1 or 2!
         Arrays.asList(
-                new Task(1L, "Create a new feature", "Develop and implement a new feature for our product", PENDING, LocalDateTime.now(), LocalDateTime.now().plusDays(7), null, 4L),
-                new Task(2L, "Fix a bug in the payment system", "Identify and fix a bug in our payment system that is causing some users to experience issues", PENDING, LocalDateTime.now().minusDays(3), LocalDateTime.now().plusDays(5), null, 5L),
-                new Task(3L, "Prepare for the upcoming marketing campaign", "Create promotional materials, develop campaign strategies, and coordinate with marketing team", PENDING, LocalDateTime.now().plusDays(1), LocalDateTime.now().plusDays(10), null, 5L),
-                new Task(4L, "Update user documentation", "Review and update our user documentation to reflect the latest changes to the product", COMPLETED, LocalDateTime.now().minusDays(2), LocalDateTime.now(), LocalDateTime.now().minusDays(1), 3L),
-                new Task(5L, "Resolve customer support tickets", "Respond to customer inquiries, investigate issues, and provide solutions to resolve customer support tickets", FAILED, LocalDateTime.now().minusDays(4), LocalDateTime.now().plusDays(3), null, 4L)
+                new Task(null, "Create a new feature", "Develop and implement a new feature for our product", PENDING, LocalDateTime.now(), LocalDateTime.now().plusDays(7), null, 4L),
+                new Task(null, "Fix a bug in the payment system", "Identify and fix a bug in our payment system that is causing some users to experience issues", PENDING, LocalDateTime.now().minusDays(3), LocalDateTime.now().plusDays(5), null, 5L),
+                new Task(null, "Prepare for the upcoming marketing campaign", "Create promotional materials, develop campaign strategies, and coordinate with marketing team", PENDING, LocalDateTime.now().plusDays(1), LocalDateTime.now().plusDays(10), null, 5L),
+                new Task(null, "Update user documentation", "Review and update our user documentation to reflect the latest changes to the product", COMPLETED, LocalDateTime.now().minusDays(2), LocalDateTime.now(), LocalDateTime.now().minusDays(1), 3L),
+                new Task(null, "Resolve customer support tickets", "Respond to customer inquiries, investigate issues, and provide solutions to resolve customer support tickets", FAILED, LocalDateTime.now().minusDays(4), LocalDateTime.now().plusDays(3), null, 4L)
         ).forEach(task -> taskRepository.save(task));
+        taskCompletionRollupRepository.rebuild();
     }
 
 }
\ No newline at end of file
@@ -0,0 +1,68 @@
+package pl.bartoszmech.application.service;
+
+import org.junit.jupiter.api.Test;
+import pl.bartoszmech.application.response.CompletedTasksByAssignedToResponseDto;
+import pl.bartoszmech.application.response.CompletedTasksStatisticResponseDto;
+import pl.bartoszmech.application.response.UserResponseDto;
+import pl.bartoszmech.application.services.EmployeeAnalysisService;
+
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static pl.bartoszmech.domain.user.UserRoles.EMPLOYEE;
+
+public class EmployeeAnalysisServiceTest {
+    EmployeeAnalysisService employeeAnalysisService = new EmployeeAnalysisService();
+    List<UserResponseDto> employees = LongStream.rangeClosed(1, 5)
+            .mapToObj(id -> UserResponseDto.builder()
+                    .id(id)
+                    .firstName("First" + id)
+                    .lastName("Last" + id)
+                    .email("employee" + id + "@example.com")
+                    .role(EMPLOYEE)
+                    .build())
+            .toList();
+    List<CompletedTasksByAssignedToResponseDto> completedTasks = List.of(
+            new CompletedTasksByAssignedToResponseDto(1L, 3),
+            new CompletedTasksByAssignedToResponseDto(2L, 7),
+            new CompletedTasksByAssignedToResponseDto(4L, 1),
+            new CompletedTasksByAssignedToResponseDto(5L, 5)
+    );
+
+    @Test
+    public void should_join_employees_and_sort_by_completed_tasks() {
+        //given
+        //when
+        List<CompletedTasksStatisticResponseDto> statistics = employeeAnalysisService.sortEmployeesByCompletedTasks(employees, completedTasks, 6);
+        //then
+        assertThat(statistics).containsExactly(
+                new CompletedTasksStatisticResponseDto(employees.get(1), 7),
+                new CompletedTasksStatisticResponseDto(employees.get(4), 5),
+                new CompletedTasksStatisticResponseDto(employees.get(0), 3),
+                new CompletedTasksStatisticResponseDto(employees.get(3), 1)
+        );
+    }
+
+    @Test
+    public void should_return_only_top_employees_when_limit_is_provided() {
+        //given
+        //when
+        List<CompletedTasksStatisticResponseDto> statistics = employeeAnalysisService.findTopEmployeesByCompletedTasks(employees, completedTasks, 2);
+        //then
+        assertThat(statistics).containsExactly(
+                new CompletedTasksStatisticResponseDto(employees.get(1), 7),
+                new CompletedTasksStatisticResponseDto(employees.get(4), 5)
+        );
+    }
+
+    @Test
+    public void should_leave_user_empty_when_assignee_is_not_employee() {
+        //given
+        List<CompletedTasksByAssignedToResponseDto> tasksOfUnknownUser = List.of(new CompletedTasksByAssignedToResponseDto(99L, 2));
+        //when
+        List<CompletedTasksStatisticResponseDto> statistics = employeeAnalysisService.sortEmployeesByCompletedTasks(employees, tasksOfUnknownUser, 6);
+        //then
+        assertThat(statistics).containsExactly(new CompletedTasksStatisticResponseDto(null, 2));
+    }
+}
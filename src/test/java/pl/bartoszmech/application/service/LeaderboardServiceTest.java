@@ -0,0 +1,107 @@
+package pl.bartoszmech.application.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import pl.bartoszmech.application.request.CreateAndUpdateTaskRequestDto;
+import pl.bartoszmech.application.request.CreateUserDto;
+import pl.bartoszmech.application.response.TaskResponseDto;
+import pl.bartoszmech.application.response.UserResponseDto;
+import pl.bartoszmech.application.services.EmployeeAnalysisService;
+import pl.bartoszmech.application.services.LeaderboardProperties;
+import pl.bartoszmech.application.services.LeaderboardService;
+import pl.bartoszmech.application.services.LeaderboardSnapshot;
+import pl.bartoszmech.domain.task.AdjustableClock;
+import pl.bartoszmech.domain.task.TaskCompletionRollupRepositoryTestImpl;
+import pl.bartoszmech.domain.task.TaskDeadlineTrackerTestImpl;
+import pl.bartoszmech.domain.task.TaskRepositoryTestImpl;
+import pl.bartoszmech.domain.task.service.TaskService;
+import pl.bartoszmech.domain.task.service.TaskServiceImpl;
+import pl.bartoszmech.domain.user.UserRepositoryTestImpl;
+import pl.bartoszmech.domain.user.service.PasswordEncoderTestImpl;
+import pl.bartoszmech.domain.user.service.UserService;
+import pl.bartoszmech.domain.user.service.UserServiceImpl;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static pl.bartoszmech.domain.user.UserRoles.EMPLOYEE;
+
+public class LeaderboardServiceTest {
+    private final AdjustableClock clock = new AdjustableClock(
+            LocalDateTime.of(2014, 6, 1, 1, 15, 30).toInstant(ZoneOffset.UTC),
+            ZoneId.of("UTC")
+    );
+    TaskService taskService = new TaskServiceImpl(new TaskRepositoryTestImpl(), clock, new TaskDeadlineTrackerTestImpl(), new TaskCompletionRollupRepositoryTestImpl());
+    UserService userService = new UserServiceImpl(new UserRepositoryTestImpl(), new PasswordEncoderTestImpl(), Runnable::run);
+    LeaderboardService leaderboardService = new LeaderboardService(taskService, userService, new EmployeeAnalysisService(),
+            clock, new LeaderboardProperties(Duration.ofMinutes(1), 100));
+    UserResponseDto employee;
+    TaskResponseDto task;
+
+    @BeforeEach
+    public void setUp() {
+        employee = userService.createUser(CreateUserDto.builder()
+                .firstName("Dany")
+                .lastName("Abramov")
+                .email("example@gmail.com")
+                .password("zaq1@WSX")
+                .role(EMPLOYEE)
+                .build());
+        task = taskService.createTask(new CreateAndUpdateTaskRequestDto(
+                "Task 1", "Description 1", LocalDateTime.of(2014, 6, 3, 9, 0), employee.id()));
+    }
+
+    @Test
+    public void should_reuse_snapshot_until_it_gets_stale() {
+        //given
+        LeaderboardSnapshot firstSnapshot = leaderboardService.getLeaderboard(6, null);
+        taskService.completeTask(task.id());
+        clock.advanceInTimeBy(Duration.ofSeconds(30));
+        //when
+        LeaderboardSnapshot cachedSnapshot = leaderboardService.getLeaderboard(6, null);
+        clock.advanceInTimeBy(Duration.ofSeconds(31));
+        LeaderboardSnapshot refreshedSnapshot = leaderboardService.getLeaderboard(6, null);
+        //then
+        assertAll(
+                () -> assertThat(cachedSnapshot).isSameAs(firstSnapshot),
+                () -> assertThat(leaderboardService.ageOf(cachedSnapshot)).isEqualTo(Duration.ofSeconds(61)),
+                () -> assertThat(cachedSnapshot.statistics()).isEmpty(),
+                () -> assertThat(refreshedSnapshot.statistics()).hasSize(1),
+                () -> assertThat(leaderboardService.ageOf(refreshedSnapshot)).isZero()
+        );
+    }
+
+    @Test
+    public void should_recompute_snapshot_after_invalidation() {
+        //given
+        LeaderboardSnapshot firstSnapshot = leaderboardService.getLeaderboard(6, null);
+        taskService.completeTask(task.id());
+        //when
+        leaderboardService.invalidate();
+        LeaderboardSnapshot refreshedSnapshot = leaderboardService.getLeaderboard(6, null);
+        //then
+        assertAll(
+                () -> assertThat(refreshedSnapshot).isNotSameAs(firstSnapshot),
+                () -> assertThat(refreshedSnapshot.statistics()).hasSize(1),
+                () -> assertThat(refreshedSnapshot.statistics().get(0).user()).isEqualTo(employee)
+        );
+    }
+
+    @Test
+    public void should_keep_separate_snapshot_per_window() {
+        //given
+        LeaderboardSnapshot sixMonthsSnapshot = leaderboardService.getLeaderboard(6, null);
+        //when
+        LeaderboardSnapshot threeMonthsSnapshot = leaderboardService.getLeaderboard(3, null);
+        //then
+        assertAll(
+                () -> assertThat(threeMonthsSnapshot).isNotSameAs(sixMonthsSnapshot),
+                () -> assertThat(leaderboardService.getLeaderboard(6, null)).isSameAs(sixMonthsSnapshot),
+                () -> assertThat(leaderboardService.getLeaderboard(3, null)).isSameAs(threeMonthsSnapshot)
+        );
+    }
+}
@@ -0,0 +1,114 @@
+package pl.bartoszmech.application.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.Test;
+import pl.bartoszmech.application.request.CreateUserDto;
+import pl.bartoszmech.application.response.BulkTaskResponseDto;
+import pl.bartoszmech.application.response.BulkTaskResultDto;
+import pl.bartoszmech.application.services.AuthorizationService;
+import pl.bartoszmech.application.services.TaskBulkImportService;
+import pl.bartoszmech.domain.task.AdjustableClock;
+import pl.bartoszmech.domain.task.DuplicateUserTaskException;
+import pl.bartoszmech.domain.task.Task;
+import pl.bartoszmech.domain.task.TaskAssignment;
+import pl.bartoszmech.domain.task.TaskCompletionRollupRepositoryTestImpl;
+import pl.bartoszmech.domain.task.TaskDeadlineTrackerTestImpl;
+import pl.bartoszmech.domain.task.TaskRepositoryTestImpl;
+import pl.bartoszmech.domain.task.service.TaskServiceImpl;
+import pl.bartoszmech.domain.user.UserRepositoryTestImpl;
+import pl.bartoszmech.domain.user.service.PasswordEncoderTestImpl;
+import pl.bartoszmech.domain.user.service.UserService;
+import pl.bartoszmech.domain.user.service.UserServiceImpl;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Collection;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static pl.bartoszmech.domain.task.DuplicateUserTaskException.TASK_DUPLICATE;
+import static pl.bartoszmech.domain.task.TaskStatus.PENDING;
+import static pl.bartoszmech.domain.user.UserRoles.EMPLOYEE;
+
+public class TaskBulkImportServiceTest {
+    private final AdjustableClock clock = new AdjustableClock(
+            LocalDateTime.of(2014, 6, 1, 1, 15, 30).toInstant(ZoneOffset.UTC),
+            ZoneId.of("UTC")
+    );
+    RacingTaskRepository taskRepository = new RacingTaskRepository();
+    UserService userService = new UserServiceImpl(new UserRepositoryTestImpl(), new PasswordEncoderTestImpl(), Runnable::run);
+    TaskBulkImportService importService = new TaskBulkImportService(
+            new ObjectMapper().registerModule(new JavaTimeModule()),
+            Validation.buildDefaultValidatorFactory().getValidator(),
+            new AuthorizationService(userService, null, null),
+            new TaskServiceImpl(taskRepository, clock, new TaskDeadlineTrackerTestImpl(), new TaskCompletionRollupRepositoryTestImpl()));
+
+    @Test
+    public void should_reject_only_tasks_taken_by_concurrent_insert() {
+        //given
+        long employeeId = userService.createUser(CreateUserDto.builder()
+                .firstName("Dany")
+                .lastName("Abramov")
+                .email("example@gmail.com")
+                .password("zaq1@WSX")
+                .role(EMPLOYEE)
+                .build()).id();
+        taskRepository.insertAfterNextCheck(new Task(null, "Taken title", "Inserted by another request", PENDING,
+                LocalDateTime.now(clock), LocalDateTime.now(clock).plusDays(1), null, employeeId));
+        String body = """
+                [
+                  {"title": "First title", "description": "First description", "endDate": "2014-06-03T09:00:00", "assignedTo": %1$d},
+                  {"title": "Taken title", "description": "Second description", "endDate": "2014-06-03T09:00:00", "assignedTo": %1$d},
+                  {"title": "Third title", "description": "Third description", "endDate": "2014-06-03T09:00:00", "assignedTo": %1$d}
+                ]
+                """.formatted(employeeId);
+        //when
+        BulkTaskResponseDto response = importService.importTasks(new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)));
+        //then
+        assertAll("Concurrent insert assertions",
+                () -> assertThat(response.created()).isEqualTo(2),
+                () -> assertThat(response.results()).extracting(BulkTaskResultDto::index).containsExactly(0, 1, 2),
+                () -> assertThat(response.results().get(0).isCreated()).isTrue(),
+                () -> assertThat(response.results().get(1).errors()).containsExactly(TASK_DUPLICATE),
+                () -> assertThat(response.results().get(2).isCreated()).isTrue(),
+                () -> assertThat(taskRepository.findAll()).extracting(Task::getTitle)
+                        .containsExactlyInAnyOrder("First title", "Taken title", "Third title")
+        );
+    }
+
+    // enforces the assigned_to and title constraint atomically, like the rolled back flush of the database
+    static class RacingTaskRepository extends TaskRepositoryTestImpl {
+        private Task concurrentTask;
+
+        void insertAfterNextCheck(Task task) {
+            concurrentTask = task;
+        }
+
+        @Override
+        public List<TaskAssignment> findAssignments(Collection<Long> assignees, Collection<String> titles) {
+            List<TaskAssignment> assignments = super.findAssignments(assignees, titles);
+            if (concurrentTask != null) {
+                super.save(concurrentTask);
+                concurrentTask = null;
+            }
+            return assignments;
+        }
+
+        @Override
+        public List<Task> saveAll(List<Task> tasks) {
+            List<String> titles = tasks.stream().map(Task::getTitle).toList();
+            List<Long> assignees = tasks.stream().map(Task::getAssignedTo).toList();
+            if (!super.findAssignments(assignees, titles).isEmpty()) {
+                throw new DuplicateUserTaskException(TASK_DUPLICATE);
+            }
+            return super.saveAll(tasks);
+        }
+    }
+
+}
@@ -0,0 +1,63 @@
+package pl.bartoszmech.application.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.Test;
+import pl.bartoszmech.application.services.TaskExportFormat;
+import pl.bartoszmech.application.services.TaskExportService;
+import pl.bartoszmech.domain.task.Task;
+import pl.bartoszmech.domain.task.TaskExportFilter;
+import pl.bartoszmech.domain.task.repository.TaskExportRepository;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static pl.bartoszmech.domain.task.TaskStatus.COMPLETED;
+import static pl.bartoszmech.domain.task.TaskStatus.PENDING;
+
+public class TaskExportServiceTest {
+    List<Task> tasks = List.of(
+            new Task(1L, "Write report", "Quarterly, \"final\" version", COMPLETED,
+                    LocalDateTime.of(2014, 6, 1, 8, 0), LocalDateTime.of(2014, 6, 3, 9, 0), LocalDateTime.of(2014, 6, 2, 10, 0), 3L),
+            new Task(2L, "Fix bug", "Payment system", PENDING,
+                    LocalDateTime.of(2014, 6, 1, 8, 0), LocalDateTime.of(2014, 6, 5, 9, 0), null, 4L)
+    );
+    TaskExportRepository repository = (filter, consumer) -> tasks.forEach(consumer);
+    ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    TaskExportService taskExportService = new TaskExportService(repository, objectMapper);
+    TaskExportFilter noFilter = new TaskExportFilter(null, null, null, null);
+
+    @Test
+    public void should_export_one_json_object_per_line() throws IOException {
+        //given
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        //when
+        taskExportService.export(noFilter, TaskExportFormat.NDJSON, outputStream);
+        //then
+        List<String> lines = outputStream.toString(StandardCharsets.UTF_8).lines().toList();
+        assertThat(lines).hasSize(2);
+        assertThat(objectMapper.readTree(lines.get(0)).get("title").asText()).isEqualTo("Write report");
+        assertThat(objectMapper.readTree(lines.get(1)).get("completedAt").isNull()).isTrue();
+    }
+
+    @Test
+    public void should_export_csv_with_header_and_escaped_values() throws IOException {
+        //given
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        //when
+        taskExportService.export(noFilter, TaskExportFormat.CSV, outputStream);
+        //then
+        assertThat(outputStream.toString(StandardCharsets.UTF_8).lines().toList()).containsExactly(
+                "id,title,description,status,startDate,endDate,completedAt,assignedTo",
+                "1,Write report,\"Quarterly, \"\"final\"\" version\",COMPLETED,2014-06-01T08:00,2014-06-03T09:00,2014-06-02T10:00,3",
+                "2,Fix bug,Payment system,PENDING,2014-06-01T08:00,2014-06-05T09:00,,4"
+        );
+    }
+}
@@ -5,7 +5,10 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import pl.bartoszmech.application.request.CreateAndUpdateTaskRequestDto;
 import pl.bartoszmech.application.response.CompletedTasksByAssignedToResponseDto;
+import pl.bartoszmech.application.response.TaskResponseDto;
 import pl.bartoszmech.domain.task.AdjustableClock;
+import pl.bartoszmech.domain.task.TaskCompletionRollupRepositoryTestImpl;
+import pl.bartoszmech.domain.task.TaskDeadlineTrackerTestImpl;
 import pl.bartoszmech.domain.task.TaskRepositoryTestImpl;
 import pl.bartoszmech.domain.task.service.TaskService;
 import pl.bartoszmech.domain.task.service.TaskServiceImpl;
@@ -24,7 +27,7 @@ public class TaskStatisticsTest {
             LocalDateTime.of(2014, 6, 1, 1, 15, 30).toInstant(ZoneOffset.UTC),
             ZoneId.of("UTC")
     );
-    TaskService taskService = new TaskServiceImpl(new TaskRepositoryTestImpl(), clock);
+    TaskService taskService = new TaskServiceImpl(new TaskRepositoryTestImpl(), clock, new TaskDeadlineTrackerTestImpl(), new TaskCompletionRollupRepositoryTestImpl());
     @BeforeEach
     public void setUp() {
         List<CreateAndUpdateTaskRequestDto> tasksToAdd = Arrays.asList(
@@ -68,6 +71,60 @@ public class TaskStatisticsTest {
         assertThat(allCompletedTasks).isEqualTo(taskService.listTasks().stream().filter(task -> task.status() == COMPLETED).toList().size());
     }
 
+    @Test
+    public void should_count_completed_tasks_per_assignee_ending_in_last_months() {
+        //given
+        clock.plusMonths(3);
+        taskService.listTasks().forEach(task -> taskService.completeTask(task.id()));
+        //when
+        List<CompletedTasksByAssignedToResponseDto> completedTasksByAssignedTo = taskService.getCompletedTasksByAssignedTo(2);
+        //then
+        assertThat(completedTasksByAssignedTo).containsExactlyInAnyOrder(
+                new CompletedTasksByAssignedToResponseDto(1L, 2),
+                new CompletedTasksByAssignedToResponseDto(2L, 1),
+                new CompletedTasksByAssignedToResponseDto(3L, 3),
+                new CompletedTasksByAssignedToResponseDto(4L, 1)
+        );
+    }
+
+    @Test
+    public void should_move_completed_task_count_when_task_is_reassigned() {
+        //given
+        clock.plusMonths(3);
+        taskService.listTasks().forEach(task -> taskService.completeTask(task.id()));
+        TaskResponseDto lastTask = taskService.listTasks().stream()
+                .filter(task -> task.title().equals("Task 9"))
+                .findFirst()
+                .orElseThrow();
+        //when
+        taskService.updateTask(lastTask.id(), new CreateAndUpdateTaskRequestDto(
+                lastTask.title(), lastTask.description(), lastTask.endDate(), 4L));
+        //then
+        assertThat(taskService.getCompletedTasksByAssignedTo(2)).containsExactlyInAnyOrder(
+                new CompletedTasksByAssignedToResponseDto(1L, 1),
+                new CompletedTasksByAssignedToResponseDto(2L, 1),
+                new CompletedTasksByAssignedToResponseDto(3L, 3),
+                new CompletedTasksByAssignedToResponseDto(4L, 2)
+        );
+    }
+
+    @Test
+    public void should_not_count_deleted_completed_tasks() {
+        //given
+        clock.plusMonths(3);
+        taskService.listTasks().forEach(task -> taskService.completeTask(task.id()));
+        //when
+        taskService.listTasks().stream()
+                .filter(task -> task.assignedTo() == 3L)
+                .forEach(task -> taskService.deleteById(task.id()));
+        //then
+        assertThat(taskService.getCompletedTasksByAssignedTo(2)).containsExactlyInAnyOrder(
+                new CompletedTasksByAssignedToResponseDto(1L, 2),
+                new CompletedTasksByAssignedToResponseDto(2L, 1),
+                new CompletedTasksByAssignedToResponseDto(4L, 1)
+        );
+    }
+
     @Test
     public void should_return_empty_array_if_there_is_not_completed_tasks() {
         //given
@@ -0,0 +1,75 @@
+package pl.bartoszmech.application.service;
+
+import org.junit.jupiter.api.Test;
+import pl.bartoszmech.application.response.TaskResponseDto;
+import pl.bartoszmech.application.services.TaskStreamService;
+import pl.bartoszmech.domain.task.Task;
+import pl.bartoszmech.domain.task.TaskStatus;
+import pl.bartoszmech.domain.task.repository.TaskStreamRepository;
+import reactor.core.publisher.Flux;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static pl.bartoszmech.domain.task.TaskStatus.COMPLETED;
+import static pl.bartoszmech.domain.task.TaskStatus.PENDING;
+
+public class TaskStreamServiceTest {
+    List<Task> tasks = List.of(
+            new Task(1L, "Write report", "Quarterly report", COMPLETED,
+                    LocalDateTime.of(2014, 6, 1, 8, 0), LocalDateTime.of(2014, 6, 3, 9, 0), LocalDateTime.of(2014, 6, 2, 10, 0), 3L, 2L),
+            new Task(2L, "Fix bug", "Payment system", PENDING,
+                    LocalDateTime.of(2014, 6, 1, 8, 0), LocalDateTime.of(2014, 6, 5, 9, 0), null, 4L, 0L),
+            new Task(3L, "Review", "Pull request", PENDING,
+                    LocalDateTime.of(2014, 6, 1, 8, 0), LocalDateTime.of(2014, 6, 6, 9, 0), null, 4L, 0L)
+    );
+    AtomicLong emittedTasks = new AtomicLong();
+    TaskStreamRepository repository = new TaskStreamRepository() {
+        @Override
+        public Flux<Task> streamTasks(TaskStatus status) {
+            return Flux.fromIterable(tasks)
+                    .filter(task -> status == null || task.getStatus() == status)
+                    .doOnNext(task -> emittedTasks.incrementAndGet());
+        }
+
+        @Override
+        public Flux<Task> streamTasksByAssignedTo(Long assignedTo) {
+            return Flux.fromIterable(tasks).filter(task -> task.getAssignedTo().equals(assignedTo));
+        }
+    };
+    TaskStreamService taskStreamService = new TaskStreamService(repository);
+
+    @Test
+    public void should_stream_tasks_of_requested_status_as_response_dtos() {
+        //when
+        List<TaskResponseDto> pendingTasks = taskStreamService.streamTasks(PENDING).collectList().block();
+        //then
+        assertAll("Streamed tasks assertions",
+                () -> assertThat(pendingTasks).extracting(TaskResponseDto::id).containsExactly(2L, 3L),
+                () -> assertThat(pendingTasks).extracting(TaskResponseDto::version).containsOnly(0L)
+        );
+    }
+
+    @Test
+    public void should_stream_only_tasks_of_employee() {
+        //when
+        List<TaskResponseDto> employeeTasks = taskStreamService.streamEmployeeTasks(3L).collectList().block();
+        //then
+        assertThat(employeeTasks).extracting(TaskResponseDto::title).containsExactly("Write report");
+    }
+
+    @Test
+    public void should_not_read_more_tasks_than_subscriber_requested() {
+        //when
+        List<TaskResponseDto> firstTask = taskStreamService.streamTasks(null).take(1).collectList().block();
+        //then
+        assertAll("Demand assertions",
+                () -> assertThat(firstTask).hasSize(1),
+                () -> assertThat(emittedTasks.get()).isEqualTo(1)
+        );
+    }
+
+}
@@ -0,0 +1,40 @@
+package pl.bartoszmech.domain.task;
+
+import pl.bartoszmech.domain.task.repository.TaskCompletionRollupRepository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+public class TaskCompletionRollupRepositoryTestImpl implements TaskCompletionRollupRepository {
+    ConcurrentHashMap<RollupKey, Long> database = new ConcurrentHashMap<>();
+
+    @Override
+    public void addCompletedTasks(Long assignedTo, LocalDate monthStart, long delta) {
+        database.merge(new RollupKey(assignedTo, monthStart), delta, Long::sum);
+    }
+
+    @Override
+    public List<CompletedTasksCount> sumCompletedByAssignedToFromMonth(LocalDate monthStart) {
+        Map<Long, Long> completedTasks = database.entrySet().stream()
+                .filter(entry -> !entry.getKey().monthStart().isBefore(monthStart))
+                .collect(Collectors.groupingBy(entry -> entry.getKey().assignedTo(), Collectors.summingLong(Map.Entry::getValue)));
+        return completedTasks.entrySet().stream()
+                .filter(entry -> entry.getValue() > 0)
+                .map(entry -> new CompletedTasksCount(entry.getKey(), entry.getValue()))
+                .toList();
+    }
+
+    @Override
+    public long countDrift() {
+        return 0;
+    }
+
+    @Override
+    public void rebuild() {
+    }
+
+    record RollupKey(Long assignedTo, LocalDate monthStart) {}
+}
@@ -0,0 +1,23 @@
+package pl.bartoszmech.domain.task;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class TaskDeadlineTrackerTestImpl implements TaskDeadlineTracker {
+    ConcurrentHashMap<Long, LocalDateTime> deadlines = new ConcurrentHashMap<>();
+
+    @Override
+    public void track(Long taskId, LocalDateTime endDate) {
+        deadlines.put(taskId, endDate);
+    }
+
+    @Override
+    public void untrack(Long taskId) {
+        deadlines.remove(taskId);
+    }
+
+    public Optional<LocalDateTime> findDeadline(Long taskId) {
+        return Optional.ofNullable(deadlines.get(taskId));
+    }
+}
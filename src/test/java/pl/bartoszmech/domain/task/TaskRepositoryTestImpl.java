@@ -6,13 +6,18 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.repository.query.FluentQuery;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import pl.bartoszmech.domain.task.repository.TaskRepository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
 import java.util.Random;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
+import java.util.stream.Collectors;
 
 
 public class TaskRepositoryTestImpl implements TaskRepository {
@@ -24,15 +29,25 @@ public class TaskRepositoryTestImpl implements TaskRepository {
             Random random = new Random();
             long id = random.nextLong();
             Task task = new Task(id, entity.getTitle(), entity.getDescription(), entity.getStatus(), entity.getStartDate()
-                    ,entity.getEndDate(), null, entity.getAssignedTo());
+                    ,entity.getEndDate(), null, entity.getAssignedTo(), 0L);
             database.put(id, task);
             return task;
         }
+        Task persistedTask = database.get(entity.getId());
+        if (entity.getVersion() != null && persistedTask != null && !entity.getVersion().equals(persistedTask.getVersion())) {
+            throw new ObjectOptimisticLockingFailureException(Task.class, entity.getId());
+        }
+        Long version = persistedTask == null || persistedTask.getVersion() == null ? 0L : persistedTask.getVersion() + 1;
         Task task = new Task(entity.getId(), entity.getTitle(), entity.getDescription(), entity.getStatus(), entity.getStartDate()
-                ,entity.getEndDate(), entity.getCompletedAt(),entity.getAssignedTo());
+                ,entity.getEndDate(), entity.getCompletedAt(),entity.getAssignedTo(), version);
         database.replace(entity.getId(), task);
         return database.get(entity.getId());
     }
+    @Override
+    public List<Task> saveAll(List<Task> tasks) {
+        return tasks.stream().map(this::save).toList();
+    }
+
     @Override
     public Optional<Task> findById(Long id) {
         return Optional.ofNullable(database.get(id));
@@ -43,9 +58,133 @@ public class TaskRepositoryTestImpl implements TaskRepository {
             return database.values().stream().toList();
     }
 
+    @Override
+    public List<Task> findPage(TaskPageOrder order, TaskCursor after, int limit) {
+        return page(database.values().stream().toList(), order, after, limit);
+    }
+
+    @Override
+    public List<Task> findByAssignedTo(Long assignedTo) {
+        return database.values().stream().filter(task -> task.getAssignedTo().equals(assignedTo)).toList();
+    }
+
+    @Override
+    public List<Task> findPageByAssignedTo(Long assignedTo, TaskPageOrder order, TaskCursor after, int limit) {
+        return page(findByAssignedTo(assignedTo), order, after, limit);
+    }
+
+    @Override
+    public List<Task> findAllByAssignedToAndIdIn(Long assignedTo, Collection<Long> ids) {
+        return ids.stream()
+                .distinct()
+                .map(database::get)
+                .filter(task -> task != null && task.getAssignedTo().equals(assignedTo))
+                .toList();
+    }
+
+    @Override
+    public Optional<LocalDateTime> completePendingTask(Long id, Long assignedTo, LocalDateTime now) {
+        Task task = database.get(id);
+        if (task == null || !task.getAssignedTo().equals(assignedTo) || task.getStatus() != TaskStatus.PENDING) {
+            return Optional.empty();
+        }
+        task.complete(now);
+        return Optional.of(task.getEndDate());
+    }
+
+    @Override
+    public List<Long> completePendingTasks(Long assignedTo, Collection<Long> ids, LocalDateTime now) {
+        List<Task> pendingTasks = findAllByAssignedToAndIdIn(assignedTo, ids).stream()
+                .filter(task -> task.getStatus() == TaskStatus.PENDING)
+                .toList();
+        pendingTasks.forEach(task -> task.complete(now));
+        return pendingTasks.stream().map(Task::getId).toList();
+    }
+
+    @Override
+    public boolean existsByAssignedToAndTitle(Long assignedTo, String title) {
+        return database.values().stream()
+                .anyMatch(task -> task.getAssignedTo().equals(assignedTo) && task.getTitle().equals(title));
+    }
+
+    @Override
+    public boolean existsByAssignedToAndTitleAndIdNot(Long assignedTo, String title, Long id) {
+        return database.values().stream()
+                .anyMatch(task -> task.getAssignedTo().equals(assignedTo) && task.getTitle().equals(title) && !task.getId().equals(id));
+    }
+
+    @Override
+    public List<TaskAssignment> findAssignments(Collection<Long> assignees, Collection<String> titles) {
+        return database.values().stream()
+                .filter(task -> assignees.contains(task.getAssignedTo()) && titles.contains(task.getTitle()))
+                .map(task -> new TaskAssignment(task.getAssignedTo(), task.getTitle()))
+                .toList();
+    }
+
+    @Override
+    public int failOutdatedPendingTasks(LocalDateTime now, int limit) {
+        List<Task> outdatedTasks = database.values().stream()
+                .filter(task -> task.getStatus() == TaskStatus.PENDING && task.getEndDate().isBefore(now))
+                .sorted(Comparator.comparing(Task::getId))
+                .limit(limit)
+                .toList();
+        outdatedTasks.forEach(Task::fail);
+        return outdatedTasks.size();
+    }
+
+    @Override
+    public int failOutdatedPendingTasksBetween(LocalDateTime now, Long fromId, Long toId) {
+        List<Task> outdatedTasks = database.values().stream()
+                .filter(task -> task.getStatus() == TaskStatus.PENDING && task.getEndDate().isBefore(now))
+                .filter(task -> task.getId() >= fromId && task.getId() < toId)
+                .toList();
+        outdatedTasks.forEach(Task::fail);
+        return outdatedTasks.size();
+    }
+
+    @Override
+    public List<TaskDeadline> findPendingDeadlinesBefore(LocalDateTime until) {
+        return database.values().stream()
+                .filter(task -> task.getStatus() == TaskStatus.PENDING && task.getEndDate().isBefore(until))
+                .map(task -> new TaskDeadline(task.getId(), task.getEndDate()))
+                .toList();
+    }
+
+    @Override
+    public int failPendingTasksDueBefore(List<Long> ids, LocalDateTime now) {
+        List<Task> dueTasks = ids.stream()
+                .map(database::get)
+                .filter(task -> task != null && task.getStatus() == TaskStatus.PENDING && task.getEndDate().isBefore(now))
+                .toList();
+        dueTasks.forEach(Task::fail);
+        return dueTasks.size();
+    }
+
+    @Override
+    public List<CompletedTasksCount> countCompletedByAssignedToEndingBetween(LocalDateTime after, LocalDateTime before) {
+        return database.values().stream()
+                .filter(task -> task.getStatus() == TaskStatus.COMPLETED && task.getEndDate().isAfter(after) && task.getEndDate().isBefore(before))
+                .collect(Collectors.groupingBy(Task::getAssignedTo, Collectors.counting()))
+                .entrySet().stream()
+                .map(entry -> new CompletedTasksCount(entry.getKey(), entry.getValue()))
+                .toList();
+    }
+
     @Override
     public void deleteById(Long id) {
         database.remove(id);
     }
 
+    private List<Task> page(List<Task> tasks, TaskPageOrder order, TaskCursor after, int limit) {
+        Comparator<Task> comparator = order == TaskPageOrder.END_DATE
+                ? Comparator.comparing(Task::getEndDate).thenComparing(Task::getId)
+                : Comparator.comparing(Task::getId);
+        Task cursorTask = after == null ? null : new Task(after.id(), null, null, null, null, after.endDate(), null, null);
+        return tasks.stream()
+                .filter(task -> cursorTask == null || comparator.compare(task, cursorTask) > 0)
+                .sorted(comparator)
+                .limit(limit)
+                .toList();
+    }
+
 }
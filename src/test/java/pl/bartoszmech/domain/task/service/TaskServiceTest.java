@@ -1,14 +1,23 @@
 package pl.bartoszmech.domain.task.service;
 
 import org.junit.jupiter.api.Test;
+import pl.bartoszmech.application.response.BulkTaskResultDto;
+import pl.bartoszmech.application.response.TaskCompletionResponseDto;
 import pl.bartoszmech.application.response.TaskInfoResponseDto;
 import pl.bartoszmech.domain.task.AdjustableClock;
 import pl.bartoszmech.domain.task.DuplicateUserTaskException;
 import pl.bartoszmech.domain.task.EndDateBeforeStartDateException;
+import pl.bartoszmech.domain.task.InvalidTaskCursorException;
+import pl.bartoszmech.domain.task.TaskCompletionRollupRepositoryTestImpl;
+import pl.bartoszmech.domain.task.TaskDeadlineTrackerTestImpl;
 import pl.bartoszmech.domain.task.TaskRepositoryTestImpl;
 import pl.bartoszmech.domain.task.service.TaskService;
+import pl.bartoszmech.infrastructure.apivalidation.EntityVersionTag;
+import pl.bartoszmech.infrastructure.apivalidation.PreconditionFailed;
 import pl.bartoszmech.infrastructure.apivalidation.ResourceNotFound;
+import pl.bartoszmech.infrastructure.auth.error.UnauthorizedAccessException;
 import pl.bartoszmech.application.request.CreateAndUpdateTaskRequestDto;
+import pl.bartoszmech.application.response.TaskPageResponseDto;
 import pl.bartoszmech.application.response.TaskResponseDto;
 import pl.bartoszmech.domain.task.service.TaskServiceImpl;
 
@@ -19,11 +28,16 @@ import java.time.ZoneOffset;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.http.HttpStatus.FORBIDDEN;
+import static org.springframework.http.HttpStatus.NOT_FOUND;
+import static org.springframework.http.HttpStatus.OK;
 import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static pl.bartoszmech.domain.task.TaskStatus.COMPLETED;
 import static pl.bartoszmech.domain.task.TaskStatus.FAILED;
+import static pl.bartoszmech.domain.task.TaskPageOrder.END_DATE;
+import static pl.bartoszmech.domain.task.TaskPageOrder.ID;
 import static pl.bartoszmech.domain.task.TaskStatus.PENDING;
 
 public class TaskServiceTest {
@@ -31,7 +45,8 @@ public class TaskServiceTest {
             LocalDateTime.of(2014, 12, 22, 10, 15, 30).toInstant(ZoneOffset.UTC),
             ZoneId.of("UTC")
     );
-    TaskService taskService = new TaskServiceImpl(new TaskRepositoryTestImpl(), clock);
+    TaskDeadlineTrackerTestImpl deadlineTracker = new TaskDeadlineTrackerTestImpl();
+    TaskService taskService = new TaskServiceImpl(new TaskRepositoryTestImpl(), clock, deadlineTracker, new TaskCompletionRollupRepositoryTestImpl());
     @Test
     public void should_successfully_create_task() {
         //given
@@ -143,6 +158,71 @@ public class TaskServiceTest {
     }
 
 
+    @Test
+    public void should_return_tasks_page_by_page_ordered_by_id() {
+        //given
+        long userId = 997L;
+        String description = "dnjfouwfofw2r21  rr 32r r32 r2 3";
+        LocalDateTime endDate = LocalDateTime.now(clock).plusDays(1);
+        TaskResponseDto savedTask1 = taskService.createTask(CreateAndUpdateTaskRequestDto.builder()
+                .title("RandomTitle1").description(description).endDate(endDate).assignedTo(userId).build());
+        TaskResponseDto savedTask2 = taskService.createTask(CreateAndUpdateTaskRequestDto.builder()
+                .title("RandomTitle2").description(description).endDate(endDate).assignedTo(userId).build());
+        TaskResponseDto savedTask3 = taskService.createTask(CreateAndUpdateTaskRequestDto.builder()
+                .title("RandomTitle3").description(description).endDate(endDate).assignedTo(userId).build());
+        //when
+        TaskPageResponseDto firstPage = taskService.listTasks(null, 2, ID);
+        TaskPageResponseDto secondPage = taskService.listTasks(firstPage.nextCursor(), 2, ID);
+        //then
+        assertThat(firstPage.tasks()).hasSize(2);
+        assertThat(firstPage.nextCursor()).isNotNull();
+        assertThat(secondPage.tasks()).hasSize(1);
+        assertThat(secondPage.nextCursor()).isNull();
+        assertThat(firstPage.tasks().get(0).id()).isLessThan(firstPage.tasks().get(1).id());
+        assertThat(firstPage.tasks().get(1).id()).isLessThan(secondPage.tasks().get(0).id());
+        assertThat(List.of(firstPage.tasks().get(0), firstPage.tasks().get(1), secondPage.tasks().get(0)))
+                .containsExactlyInAnyOrder(savedTask1, savedTask2, savedTask3);
+    }
+
+    @Test
+    public void should_return_tasks_page_by_page_ordered_by_end_date() {
+        //given
+        long userId = 997L;
+        String description = "dnjfouwfofw2r21  rr 32r r32 r2 3";
+        LocalDateTime now = LocalDateTime.now(clock);
+        TaskResponseDto latestTask = taskService.createTask(CreateAndUpdateTaskRequestDto.builder()
+                .title("RandomTitle1").description(description).endDate(now.plusDays(3)).assignedTo(userId).build());
+        TaskResponseDto earliestTask = taskService.createTask(CreateAndUpdateTaskRequestDto.builder()
+                .title("RandomTitle2").description(description).endDate(now.plusDays(1)).assignedTo(userId).build());
+        TaskResponseDto middleTask = taskService.createTask(CreateAndUpdateTaskRequestDto.builder()
+                .title("RandomTitle3").description(description).endDate(now.plusDays(2)).assignedTo(userId).build());
+        //when
+        TaskPageResponseDto firstPage = taskService.listTasks(null, 2, END_DATE);
+        TaskPageResponseDto secondPage = taskService.listTasks(firstPage.nextCursor(), 2, END_DATE);
+        //then
+        assertThat(firstPage.tasks()).containsExactly(earliestTask, middleTask);
+        assertThat(secondPage.tasks()).containsExactly(latestTask);
+        assertThat(secondPage.nextCursor()).isNull();
+    }
+
+    @Test
+    public void should_throw_exception_when_cursor_does_not_match_requested_order() {
+        //given
+        String description = "dnjfouwfofw2r21  rr 32r r32 r2 3";
+        LocalDateTime endDate = LocalDateTime.now(clock).plusDays(1);
+        taskService.createTask(CreateAndUpdateTaskRequestDto.builder()
+                .title("RandomTitle1").description(description).endDate(endDate).assignedTo(997L).build());
+        taskService.createTask(CreateAndUpdateTaskRequestDto.builder()
+                .title("RandomTitle2").description(description).endDate(endDate).assignedTo(997L).build());
+        String idCursor = taskService.listTasks(null, 1, ID).nextCursor();
+        //when
+        Throwable invalidCursor = assertThrows(InvalidTaskCursorException.class, () -> taskService.listTasks(idCursor, 1, END_DATE));
+        Throwable malformedCursor = assertThrows(InvalidTaskCursorException.class, () -> taskService.listTasks("not-a-cursor", 1, ID));
+        //then
+        assertThat(invalidCursor.getMessage()).isEqualTo("Provided cursor is invalid or does not match requested order");
+        assertThat(malformedCursor.getMessage()).isEqualTo("Provided cursor is invalid or does not match requested order");
+    }
+
     @Test
     public void should_find_task_by_id() {
         //given
@@ -238,6 +318,41 @@ public class TaskServiceTest {
         );
     }
 
+    @Test
+    public void should_increment_version_and_reject_update_with_stale_version() {
+        //given
+        long userId = 997L;
+        TaskResponseDto savedTask = taskService.createTask(CreateAndUpdateTaskRequestDto
+                .builder()
+                .title("dododod")
+                .description("fkiwfofwofwowf")
+                .endDate(LocalDateTime.now(clock).plusDays(1))
+                .assignedTo(userId)
+                .build());
+        CreateAndUpdateTaskRequestDto firstEdit = CreateAndUpdateTaskRequestDto.builder()
+                .title("FirstWriter")
+                .description("fkiwfofwofwowf")
+                .endDate(LocalDateTime.now(clock).plusDays(2))
+                .assignedTo(userId)
+                .build();
+        CreateAndUpdateTaskRequestDto secondEdit = CreateAndUpdateTaskRequestDto.builder()
+                .title("SecondWriter")
+                .description("fkiwfofwofwowf")
+                .endDate(LocalDateTime.now(clock).plusDays(3))
+                .assignedTo(userId)
+                .build();
+        //when
+        TaskResponseDto updatedTask = taskService.updateTask(savedTask.id(), firstEdit, savedTask.version());
+        Throwable staleVersion = assertThrows(PreconditionFailed.class,
+                () -> taskService.updateTask(savedTask.id(), secondEdit, savedTask.version()));
+        //then
+        assertAll("Versioned update assertions",
+                () -> assertThat(updatedTask.version()).isEqualTo(savedTask.version() + 1),
+                () -> assertThat(staleVersion.getMessage()).isEqualTo(EntityVersionTag.STALE_VERSION),
+                () -> assertThat(taskService.findById(savedTask.id()).title()).isEqualTo("FirstWriter")
+        );
+    }
+
     @Test
     public void should_throw_exception_if_client_provide_invalid_id_in_updateTask() {
         //given
@@ -301,15 +416,21 @@ public class TaskServiceTest {
         long userId = 997L;
         String title = "RandomTitle";
         String description = "dnjfouwfofw2r21  rr 32r r32 r2 3";
-        TaskResponseDto savedTask = taskService.createTask(CreateAndUpdateTaskRequestDto.builder()
+        taskService.createTask(CreateAndUpdateTaskRequestDto.builder()
                 .title(title)
                 .description("fkiwfofwofwowf")
                 .endDate(LocalDateTime.now(clock).plusSeconds(1))
                 .assignedTo(userId)
                 .build());
+        TaskResponseDto otherTask = taskService.createTask(CreateAndUpdateTaskRequestDto.builder()
+                .title("OtherTitle")
+                .description("fkiwfofwofwowf")
+                .endDate(LocalDateTime.now(clock).plusSeconds(1))
+                .assignedTo(userId)
+                .build());
         //when
         Throwable duplicateUserTask = assertThrows(DuplicateUserTaskException.class,
-                () -> taskService.updateTask(savedTask.id(), CreateAndUpdateTaskRequestDto.builder()
+                () -> taskService.updateTask(otherTask.id(), CreateAndUpdateTaskRequestDto.builder()
                         .title(title)
                         .description(description)
                         .endDate(LocalDateTime.now(clock).plusSeconds(3))
@@ -320,6 +441,32 @@ public class TaskServiceTest {
         assertThat(duplicateUserTask.getMessage()).isEqualTo("Provided task is already assigned to this same user");
     }
 
+    @Test
+    public void should_update_task_keeping_its_title_and_assignee() {
+        //given
+        long userId = 997L;
+        String title = "RandomTitle";
+        TaskResponseDto savedTask = taskService.createTask(CreateAndUpdateTaskRequestDto.builder()
+                .title(title)
+                .description("fkiwfofwofwowf")
+                .endDate(LocalDateTime.now(clock).plusDays(1))
+                .assignedTo(userId)
+                .build());
+        //when
+        TaskResponseDto updatedTask = taskService.updateTask(savedTask.id(), CreateAndUpdateTaskRequestDto.builder()
+                .title(title)
+                .description("changed description")
+                .endDate(LocalDateTime.now(clock).plusDays(2))
+                .assignedTo(userId)
+                .build(), savedTask.version());
+        //then
+        assertAll("Update keeping title assertions",
+                () -> assertThat(updatedTask.title()).isEqualTo(title),
+                () -> assertThat(updatedTask.description()).isEqualTo("changed description"),
+                () -> assertThat(updatedTask.version()).isEqualTo(savedTask.version() + 1)
+        );
+    }
+
     @Test
     public void should_throw_exception_if_assign_this_same_task_title_to_this_same_user_createTask() {
         //given
@@ -398,6 +545,28 @@ public class TaskServiceTest {
         assertThat(foundTasks.get(0).assignedTo()).isEqualTo(userId);
     }
 
+    @Test
+    public void should_return_only_employee_tasks_page_by_page() {
+        //given
+        long userId = 997L;
+        String description = "dnjfouwfofw2r21  rr 32r r32 r2 3";
+        LocalDateTime endDate = LocalDateTime.now(clock).plusDays(1);
+        TaskResponseDto savedTask1 = taskService.createTask(CreateAndUpdateTaskRequestDto.builder()
+                .title("RandomTitle1").description(description).endDate(endDate).assignedTo(userId).build());
+        TaskResponseDto savedTask2 = taskService.createTask(CreateAndUpdateTaskRequestDto.builder()
+                .title("RandomTitle2").description(description).endDate(endDate).assignedTo(userId).build());
+        taskService.createTask(CreateAndUpdateTaskRequestDto.builder()
+                .title("RandomTitle3").description(description).endDate(endDate).assignedTo(userId + 1).build());
+        //when
+        TaskPageResponseDto firstPage = taskService.listEmployeeTasks(userId, null, 1, ID);
+        TaskPageResponseDto secondPage = taskService.listEmployeeTasks(userId, firstPage.nextCursor(), 1, ID);
+        //then
+        assertThat(firstPage.nextCursor()).isNotNull();
+        assertThat(secondPage.nextCursor()).isNull();
+        assertThat(List.of(firstPage.tasks().get(0), secondPage.tasks().get(0)))
+                .containsExactlyInAnyOrder(savedTask1, savedTask2);
+    }
+
     @Test
     public void should_success_mark_task_as_completed() {
         //given
@@ -501,9 +670,222 @@ public class TaskServiceTest {
 
         //when
         clock.plusDaysAndMinutes(1, 1);
-        taskService.markAsFailedOutdatedTasks();
+        int failedTasks = taskService.markAsFailedOutdatedTasks();
         //then
         TaskResponseDto updatedTask = taskService.findById(savedTask.id());
         assertThat(updatedTask.status()).isEqualTo(FAILED);
+        assertThat(failedTasks).isEqualTo(1);
+    }
+
+    @Test
+    public void should_mark_only_pending_outdated_tasks_as_failed() {
+        //given
+        String description = "dnjfouwfofw2r21  rr 32r r32 r2 3";
+        TaskResponseDto outdatedTask = taskService.createTask(CreateAndUpdateTaskRequestDto.builder()
+                .title("OutdatedTitle")
+                .description(description)
+                .endDate(LocalDateTime.now(clock).plusDays(1))
+                .assignedTo(997L)
+                .build());
+        TaskResponseDto completedTask = taskService.createTask(CreateAndUpdateTaskRequestDto.builder()
+                .title("CompletedTitle")
+                .description(description)
+                .endDate(LocalDateTime.now(clock).plusDays(1))
+                .assignedTo(997L)
+                .build());
+        TaskResponseDto upcomingTask = taskService.createTask(CreateAndUpdateTaskRequestDto.builder()
+                .title("UpcomingTitle")
+                .description(description)
+                .endDate(LocalDateTime.now(clock).plusDays(3))
+                .assignedTo(997L)
+                .build());
+        taskService.completeTask(completedTask.id());
+        //when
+        clock.plusDaysAndMinutes(1, 1);
+        int failedTasks = taskService.markAsFailedOutdatedTasks();
+        //then
+        assertAll(
+                () -> assertThat(failedTasks).isEqualTo(1),
+                () -> assertThat(taskService.findById(outdatedTask.id()).status()).isEqualTo(FAILED),
+                () -> assertThat(taskService.findById(completedTask.id()).status()).isEqualTo(COMPLETED),
+                () -> assertThat(taskService.findById(upcomingTask.id()).status()).isEqualTo(PENDING)
+        );
+    }
+
+    @Test
+    public void should_mark_as_failed_only_outdated_tasks_in_id_range() {
+        //given
+        String description = "dnjfouwfofw2r21  rr 32r r32 r2 3";
+        TaskResponseDto firstTask = taskService.createTask(CreateAndUpdateTaskRequestDto.builder()
+                .title("FirstTitle")
+                .description(description)
+                .endDate(LocalDateTime.now(clock).plusDays(1))
+                .assignedTo(997L)
+                .build());
+        TaskResponseDto secondTask = taskService.createTask(CreateAndUpdateTaskRequestDto.builder()
+                .title("SecondTitle")
+                .description(description)
+                .endDate(LocalDateTime.now(clock).plusDays(1))
+                .assignedTo(997L)
+                .build());
+        //when
+        clock.plusDaysAndMinutes(1, 1);
+        int failedTasks = taskService.markAsFailedOutdatedTasks(firstTask.id(), firstTask.id() + 1, LocalDateTime.now(clock));
+        //then
+        assertAll(
+                () -> assertThat(failedTasks).isEqualTo(1),
+                () -> assertThat(taskService.findById(firstTask.id()).status()).isEqualTo(FAILED),
+                () -> assertThat(taskService.findById(secondTask.id()).status()).isEqualTo(PENDING)
+        );
+    }
+
+    @Test
+    public void should_track_deadline_of_created_and_updated_task() {
+        //given
+        CreateAndUpdateTaskRequestDto request = CreateAndUpdateTaskRequestDto.builder()
+                .title("RandomTitle")
+                .description("dnjfouwfofw2r21  rr 32r r32 r2 3")
+                .endDate(LocalDateTime.now(clock).plusDays(1))
+                .assignedTo(997L)
+                .build();
+        TaskResponseDto savedTask = taskService.createTask(request);
+        LocalDateTime postponedEndDate = LocalDateTime.now(clock).plusDays(2);
+        //when
+        taskService.updateTask(savedTask.id(), CreateAndUpdateTaskRequestDto.builder()
+                .title("PostponedTitle")
+                .description(request.description())
+                .endDate(postponedEndDate)
+                .assignedTo(request.assignedTo())
+                .build());
+        //then
+        assertThat(deadlineTracker.findDeadline(savedTask.id())).contains(postponedEndDate);
+    }
+
+    @Test
+    public void should_stop_tracking_deadline_of_completed_and_deleted_tasks() {
+        //given
+        String description = "dnjfouwfofw2r21  rr 32r r32 r2 3";
+        TaskResponseDto completedTask = taskService.createTask(CreateAndUpdateTaskRequestDto.builder()
+                .title("CompletedTitle")
+                .description(description)
+                .endDate(LocalDateTime.now(clock).plusDays(1))
+                .assignedTo(997L)
+                .build());
+        TaskResponseDto deletedTask = taskService.createTask(CreateAndUpdateTaskRequestDto.builder()
+                .title("DeletedTitle")
+                .description(description)
+                .endDate(LocalDateTime.now(clock).plusDays(1))
+                .assignedTo(997L)
+                .build());
+        //when
+        taskService.completeTask(completedTask.id());
+        taskService.deleteById(deletedTask.id());
+        //then
+        assertAll(
+                () -> assertThat(deadlineTracker.findDeadline(completedTask.id())).isEmpty(),
+                () -> assertThat(deadlineTracker.findDeadline(deletedTask.id())).isEmpty()
+        );
+    }
+
+    @Test
+    public void should_create_tasks_in_bulk_and_reject_duplicates_and_invalid_dates() {
+        //given
+        String description = "dnjfouwfofw2r21  rr 32r r32 r2 3";
+        LocalDateTime endDate = LocalDateTime.now(clock).plusDays(1);
+        taskService.createTask(CreateAndUpdateTaskRequestDto.builder()
+                .title("ExistingTitle")
+                .description(description)
+                .endDate(endDate)
+                .assignedTo(997L)
+                .build());
+        //when
+        List<BulkTaskResultDto> results = taskService.createTasks(List.of(
+                CreateAndUpdateTaskRequestDto.builder().title("NewTitle").description(description).endDate(endDate).assignedTo(997L).build(),
+                CreateAndUpdateTaskRequestDto.builder().title("ExistingTitle").description(description).endDate(endDate).assignedTo(997L).build(),
+                CreateAndUpdateTaskRequestDto.builder().title("NewTitle").description(description).endDate(endDate).assignedTo(997L).build(),
+                CreateAndUpdateTaskRequestDto.builder().title("NewTitle").description(description).endDate(endDate).assignedTo(998L).build(),
+                CreateAndUpdateTaskRequestDto.builder().title("PastTitle").description(description).endDate(LocalDateTime.now(clock).minusSeconds(1)).assignedTo(997L).build()
+        ));
+        //then
+        assertAll(
+                () -> assertThat(results).extracting(BulkTaskResultDto::index).containsExactly(0, 1, 2, 3, 4),
+                () -> assertThat(results).extracting(BulkTaskResultDto::isCreated).containsExactly(true, false, false, true, false),
+                () -> assertThat(results.get(1).errors()).containsExactly("Provided task is already assigned to this same user"),
+                () -> assertThat(results.get(2).errors()).containsExactly("Provided task is already assigned to this same user"),
+                () -> assertThat(results.get(4).errors()).containsExactly("Provided invalid dates order"),
+                () -> assertThat(taskService.listTasks()).hasSize(3),
+                () -> assertThat(deadlineTracker.findDeadline(results.get(3).task().id())).contains(endDate)
+        );
+    }
+
+    @Test
+    public void should_complete_tasks_in_bulk_and_report_outcome_per_id() {
+        //given
+        String description = "dnjfouwfofw2r21  rr 32r r32 r2 3";
+        TaskResponseDto pendingTask = taskService.createTask(CreateAndUpdateTaskRequestDto.builder()
+                .title("PendingTitle").description(description).endDate(LocalDateTime.now(clock).plusDays(1)).assignedTo(997L).build());
+        TaskResponseDto completedTask = taskService.createTask(CreateAndUpdateTaskRequestDto.builder()
+                .title("CompletedTitle").description(description).endDate(LocalDateTime.now(clock).plusDays(1)).assignedTo(997L).build());
+        TaskResponseDto failedTask = taskService.createTask(CreateAndUpdateTaskRequestDto.builder()
+                .title("FailedTitle").description(description).endDate(LocalDateTime.now(clock).plusSeconds(1)).assignedTo(997L).build());
+        TaskResponseDto otherEmployeeTask = taskService.createTask(CreateAndUpdateTaskRequestDto.builder()
+                .title("OtherTitle").description(description).endDate(LocalDateTime.now(clock).plusDays(1)).assignedTo(998L).build());
+        taskService.completeTask(completedTask.id());
+        clock.advanceInTimeBy(Duration.ofSeconds(2));
+        taskService.markAsFailedOutdatedTasks();
+        //when
+        List<TaskCompletionResponseDto> outcomes = taskService.completeTasks(997L, List.of(
+                pendingTask.id(), completedTask.id(), failedTask.id(), otherEmployeeTask.id(), pendingTask.id()));
+        //then
+        assertAll(
+                () -> assertThat(outcomes).extracting(TaskCompletionResponseDto::id)
+                        .containsExactly(pendingTask.id(), completedTask.id(), failedTask.id(), otherEmployeeTask.id()),
+                () -> assertThat(outcomes).extracting(TaskCompletionResponseDto::message)
+                        .containsExactly("Task created successfully", "Task is already completed", "Task is outdated", "Task with provided id could not be found"),
+                () -> assertThat(outcomes).extracting(TaskCompletionResponseDto::status)
+                        .containsExactly(OK, FORBIDDEN, FORBIDDEN, NOT_FOUND),
+                () -> assertThat(taskService.findById(pendingTask.id()).status()).isEqualTo(COMPLETED),
+                () -> assertThat(taskService.findById(otherEmployeeTask.id()).status()).isEqualTo(PENDING),
+                () -> assertThat(deadlineTracker.findDeadline(pendingTask.id())).isEmpty()
+        );
+    }
+
+    @Test
+    public void should_complete_assigned_task_only_once() {
+        //given
+        TaskResponseDto savedTask = taskService.createTask(CreateAndUpdateTaskRequestDto.builder()
+                .title("RandomTitle")
+                .description("dnjfouwfofw2r21  rr 32r r32 r2 3")
+                .endDate(LocalDateTime.now(clock).plusDays(1))
+                .assignedTo(997L)
+                .build());
+        //when
+        TaskInfoResponseDto firstResponse = taskService.completeAssignedTask(997L, savedTask.id());
+        TaskInfoResponseDto secondResponse = taskService.completeAssignedTask(997L, savedTask.id());
+        //then
+        assertAll(
+                () -> assertThat(firstResponse.message()).isEqualTo("Task created successfully"),
+                () -> assertThat(secondResponse.message()).isEqualTo("Task is already completed"),
+                () -> assertThat(taskService.findById(savedTask.id()).completedAt()).isEqualTo(LocalDateTime.now(clock)),
+                () -> assertThat(deadlineTracker.findDeadline(savedTask.id())).isEmpty()
+        );
+    }
+
+    @Test
+    public void should_not_complete_task_assigned_to_other_employee() {
+        //given
+        TaskResponseDto savedTask = taskService.createTask(CreateAndUpdateTaskRequestDto.builder()
+                .title("RandomTitle")
+                .description("dnjfouwfofw2r21  rr 32r r32 r2 3")
+                .endDate(LocalDateTime.now(clock).plusDays(1))
+                .assignedTo(997L)
+                .build());
+        //when
+        Throwable notAssigned = assertThrows(UnauthorizedAccessException.class,
+                () -> taskService.completeAssignedTask(998L, savedTask.id()));
+        //then
+        assertThat(notAssigned.getMessage()).isEqualTo("You dont have permission to complete task with id: " + savedTask.id());
+        assertThat(taskService.findById(savedTask.id()).status()).isEqualTo(PENDING);
+        assertThrows(ResourceNotFound.class, () -> taskService.completeAssignedTask(997L, 12345L));
     }
 }
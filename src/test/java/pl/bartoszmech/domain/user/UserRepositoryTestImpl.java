@@ -5,9 +5,13 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.repository.query.FluentQuery;
+import pl.bartoszmech.application.response.UserResponseDto;
 import pl.bartoszmech.domain.user.repository.UserRepository;
 
+import java.util.Collection;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Random;
 import java.util.concurrent.ConcurrentHashMap;
@@ -33,6 +37,7 @@ public class UserRepositoryTestImpl implements UserRepository {
                     newUser.getPassword(),
                     newUser.getRole()
             );
+            user.setVersion(0L);
             database.put(id, user);
             return user;
         }
@@ -45,6 +50,7 @@ public class UserRepositoryTestImpl implements UserRepository {
                 newUser.getPassword(),
                 newUser.getRole()
         );
+        user.setVersion(newUser.getVersion() == null ? 0L : newUser.getVersion() + 1);
         database.replace(id, user);
         return user;
     }
@@ -54,11 +60,35 @@ public class UserRepositoryTestImpl implements UserRepository {
         return !database.values().stream().filter(user -> user.getEmail().equals(email)).toList().isEmpty();
     }
 
+    @Override
+    public List<User> saveAll(List<User> newUsers) {
+        return newUsers.stream().map(this::save).toList();
+    }
+
+    @Override
+    public List<String> findExistingEmails(Collection<String> emails) {
+        return database.values().stream().map(User::getEmail).filter(emails::contains).toList();
+    }
+
     @Override
     public List<User> findAll() {
         return database.values().stream().toList();
     }
 
+    @Override
+    public List<User> findAllByIds(Collection<Long> ids) {
+        return ids.stream().map(database::get).filter(Objects::nonNull).toList();
+    }
+
+    @Override
+    public List<UserResponseDto> findResponsesByRoleIn(Collection<UserRoles> roles) {
+        return database.values().stream()
+                .filter(user -> roles.contains(user.getRole()))
+                .sorted(Comparator.comparing(User::getId))
+                .map(UserMapper::mapToResponse)
+                .toList();
+    }
+
     @Override
     public Optional<User> findById(Long id) {
         return database.values().stream().filter(task -> task.getId().equals(id)).findFirst();
@@ -5,12 +5,17 @@ import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import pl.bartoszmech.application.request.CreateUserDto;
 import pl.bartoszmech.application.request.UpdateUserDto;
+import pl.bartoszmech.application.response.BulkUserResultDto;
 import pl.bartoszmech.application.response.UserResponseDto;
 import pl.bartoszmech.domain.user.EmailTakenException;
+import pl.bartoszmech.domain.user.User;
 import pl.bartoszmech.domain.user.UserRepositoryTestImpl;
 import pl.bartoszmech.domain.user.UserRoles;
 import pl.bartoszmech.domain.user.dto.UserDto;
+import pl.bartoszmech.infrastructure.apivalidation.EntityVersionTag;
+import pl.bartoszmech.infrastructure.apivalidation.PreconditionFailed;
 import pl.bartoszmech.infrastructure.apivalidation.ResourceNotFound;
+import java.util.Collection;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -22,7 +27,7 @@ import static pl.bartoszmech.domain.user.UserRoles.MANAGER;
 
 public class UserServiceTest {
     PasswordEncoder passwordEncoder = new PasswordEncoderTestImpl();
-    UserService userService = new UserServiceImpl(new UserRepositoryTestImpl(), passwordEncoder);
+    UserService userService = new UserServiceImpl(new UserRepositoryTestImpl(), passwordEncoder, Runnable::run);
 
     @Test
     public void should_successfully_create_user() {
@@ -111,6 +116,22 @@ public class UserServiceTest {
         assertThat(users.get(0)).isEqualTo(savedUser);
     }
 
+    @Test
+    public void should_list_users_without_admins_and_employees_only_in_employee_list() {
+        //given
+        UserResponseDto admin = userService.createUser(new CreateUserDto("John", "Doe", "admin@example.com", "zaq1@WSX", ADMIN));
+        UserResponseDto manager = userService.createUser(new CreateUserDto("Jane", "Doe", "manager@example.com", "zaq1@WSX", MANAGER));
+        UserResponseDto employee = userService.createUser(new CreateUserDto("Mary", "Smith", "employee@example.com", "zaq1@WSX", EMPLOYEE));
+        //when
+        List<UserResponseDto> users = userService.listUsers();
+        List<UserResponseDto> employees = userService.listEmployees();
+        //then
+        assertAll("List users assertions",
+                () -> assertThat(users).containsExactlyInAnyOrder(manager, employee).doesNotContain(admin),
+                () -> assertThat(employees).containsExactly(employee)
+        );
+    }
+
     @Test
     public void should_find_user_by_id() {
         //given
@@ -214,6 +235,39 @@ public class UserServiceTest {
         );
     }
 
+    @Test
+    public void should_reject_user_update_with_stale_version() {
+        //given
+        UserResponseDto savedUser = userService.createUser(CreateUserDto
+                .builder()
+                .firstName("Dany")
+                .lastName("Abramov")
+                .email("example@gmail.com")
+                .password("zaq1@WSX")
+                .role(EMPLOYEE)
+                .build()
+        );
+        UserResponseDto updatedUser = userService.updateUser(savedUser.id(), UpdateUserDto.builder()
+                .firstName("Bartosz")
+                .lastName("Abramov")
+                .email("example@gmail.com")
+                .role(EMPLOYEE)
+                .build(), savedUser.version());
+        //when
+        Throwable staleVersion = assertThrows(PreconditionFailed.class, () -> userService.updateUser(savedUser.id(), UpdateUserDto.builder()
+                .firstName("Mech")
+                .lastName("Abramov")
+                .email("example@gmail.com")
+                .role(EMPLOYEE)
+                .build(), savedUser.version()));
+        //then
+        assertAll("Versioned update assertions",
+                () -> assertThat(updatedUser.version()).isEqualTo(savedUser.version() + 1),
+                () -> assertThat(staleVersion.getMessage()).isEqualTo(EntityVersionTag.STALE_VERSION),
+                () -> assertThat(userService.findById(savedUser.id()).firstName()).isEqualTo("Bartosz")
+        );
+    }
+
     @Test
     public void should_throw_exception_if_client_provide_invalid_id_in_updateUser() {
         //given
@@ -365,4 +419,90 @@ public class UserServiceTest {
         //then
         assertThat(emailTaken.getMessage()).isEqualTo("User email is taken");
     }
+
+    @Test
+    public void should_create_users_in_bulk_and_reject_taken_emails() {
+        //given
+        userService.createUser(CreateUserDto.builder()
+                .firstName("Dany")
+                .lastName("Abramov")
+                .email("taken@gmail.com")
+                .password("zaq1@WSX")
+                .role(EMPLOYEE)
+                .build());
+        //when
+        List<BulkUserResultDto> results = userService.createUsers(List.of(
+                CreateUserDto.builder().firstName("Anna").lastName("Nowak").email("anna@gmail.com").password("zaq1@WSX").role(EMPLOYEE).build(),
+                CreateUserDto.builder().firstName("Jan").lastName("Kowal").email("taken@gmail.com").password("zaq1@WSX").role(MANAGER).build(),
+                CreateUserDto.builder().firstName("Ania").lastName("Nowak").email("anna@gmail.com").password("zaq1@WSX").role(EMPLOYEE).build(),
+                CreateUserDto.builder().firstName("Piotr").lastName("Lis").email("piotr@gmail.com").password("zaq1@WSX").role(MANAGER).build()
+        ));
+        //then
+        assertAll(
+                () -> assertThat(results).extracting(BulkUserResultDto::index).containsExactly(0, 1, 2, 3),
+                () -> assertThat(results).extracting(BulkUserResultDto::isCreated).containsExactly(true, false, false, true),
+                () -> assertThat(results.get(1).errors()).containsExactly("User email is taken"),
+                () -> assertThat(results.get(2).errors()).containsExactly("User email is taken"),
+                () -> assertThat(results.get(3).user().email()).isEqualTo("piotr@gmail.com"),
+                () -> assertThat(userService.findByEmail("anna@gmail.com").password()).isNotEqualTo("zaq1@WSX"),
+                () -> assertThat(userService.listUsers()).hasSize(3)
+        );
+    }
+
+    @Test
+    public void should_reject_only_users_whose_email_was_taken_by_concurrent_import() {
+        //given
+        RacingUserRepository repository = new RacingUserRepository();
+        UserService racingUserService = new UserServiceImpl(repository, passwordEncoder, Runnable::run);
+        repository.insertAfterNextCheck(new User("Jan", "Kowal", "taken@gmail.com", "encoded", MANAGER));
+        //when
+        List<BulkUserResultDto> results = racingUserService.createUsers(List.of(
+                CreateUserDto.builder().firstName("Anna").lastName("Nowak").email("anna@gmail.com").password("zaq1@WSX").role(EMPLOYEE).build(),
+                CreateUserDto.builder().firstName("Jan").lastName("Nowak").email("taken@gmail.com").password("zaq1@WSX").role(EMPLOYEE).build(),
+                CreateUserDto.builder().firstName("Piotr").lastName("Lis").email("piotr@gmail.com").password("zaq1@WSX").role(MANAGER).build()
+        ));
+        //then
+        assertAll(
+                () -> assertThat(results).extracting(BulkUserResultDto::index).containsExactly(0, 1, 2),
+                () -> assertThat(results).extracting(BulkUserResultDto::isCreated).containsExactly(true, false, true),
+                () -> assertThat(results.get(1).errors()).containsExactly(EmailTakenException.EMAIL_TAKEN),
+                () -> assertThat(racingUserService.findByEmail("taken@gmail.com").firstName()).isEqualTo("Jan"),
+                () -> assertThat(repository.findAll()).hasSize(3)
+        );
+    }
+
+    // enforces the unique email constraint atomically, like the rolled back flush of the database
+    static class RacingUserRepository extends UserRepositoryTestImpl {
+        private User concurrentUser;
+
+        void insertAfterNextCheck(User user) {
+            concurrentUser = user;
+        }
+
+        @Override
+        public List<String> findExistingEmails(Collection<String> emails) {
+            List<String> existingEmails = super.findExistingEmails(emails);
+            if (concurrentUser != null) {
+                super.save(concurrentUser);
+                concurrentUser = null;
+            }
+            return existingEmails;
+        }
+
+        @Override
+        public User save(User newUser) {
+            if (newUser.getId() == null && existsByEmail(newUser.getEmail())) {
+                throw new EmailTakenException(EmailTakenException.EMAIL_TAKEN);
+            }
+            return super.save(newUser);
+        }
+
+        @Override
+        public List<User> saveAll(List<User> newUsers) {
+            if (!super.findExistingEmails(newUsers.stream().map(User::getEmail).toList()).isEmpty()) {
+                throw new EmailTakenException(EmailTakenException.EMAIL_TAKEN);
+            }
+            return super.saveAll(newUsers);
+        }
+    }
 }
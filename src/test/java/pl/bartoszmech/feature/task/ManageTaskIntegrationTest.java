@@ -9,11 +9,22 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import pl.bartoszmech.IntegrationTest;
 import pl.bartoszmech.application.request.CreateAndUpdateTaskRequestDto;
 import pl.bartoszmech.application.response.TaskResponseDto;
+import pl.bartoszmech.domain.task.DuplicateUserTaskException;
+import pl.bartoszmech.domain.task.Task;
+import pl.bartoszmech.domain.task.TaskExportFilter;
+import pl.bartoszmech.domain.task.repository.TaskExportRepository;
+import pl.bartoszmech.domain.task.repository.TaskRepository;
+import pl.bartoszmech.infrastructure.apivalidation.EntityVersionTag;
 
 import java.time.Clock;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
+import static pl.bartoszmech.domain.task.TaskStatus.PENDING;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -28,6 +39,10 @@ public class ManageTaskIntegrationTest {
     MockMvc mockMvc;
     @Autowired
     ObjectMapper objectMapper;
+    @Autowired
+    TaskRepository taskRepository;
+    @Autowired
+    TaskExportRepository taskExportRepository;
     @Test
     @WithMockUser(authorities = "admin")
     public void should_be_able_to_manage_tasks_as_admin() throws Exception {
@@ -144,4 +159,73 @@ public class ManageTaskIntegrationTest {
                         .contentType(APPLICATION_JSON_VALUE))
                 .andExpect(status().isForbidden());
     }
+
+    @Test
+    public void should_translate_assigned_to_title_violation_into_duplicate_task() {
+        //given
+        Task seededTask = taskRepository.findAll().get(0);
+        Task duplicate = new Task(null, seededTask.getTitle(), "written past the service check", PENDING,
+                LocalDateTime.now(clock), LocalDateTime.now(clock).plusDays(1), null, seededTask.getAssignedTo());
+        //when
+        Throwable violation = assertThrows(DuplicateUserTaskException.class, () -> taskRepository.save(duplicate));
+        //then
+        assertThat(violation.getMessage()).isEqualTo(DuplicateUserTaskException.TASK_DUPLICATE);
+    }
+
+    @Test
+    @WithMockUser(authorities = "manager")
+    public void should_update_task_keeping_its_title_and_reject_title_of_other_task() throws Exception {
+        //given
+        TaskResponseDto createdTask = objectMapper.readValue(mockMvc.perform(post("/api/tasks")
+                        .contentType(APPLICATION_JSON_VALUE)
+                        .content(objectMapper.writeValueAsString(CreateAndUpdateTaskRequestDto.builder()
+                                .title("kept title")
+                                .description("first description")
+                                .endDate(LocalDateTime.now(clock).plusDays(1))
+                                .assignedTo(EMPLOYEE_ID)
+                                .build())))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString(), TaskResponseDto.class);
+        CreateAndUpdateTaskRequestDto keptTitle = CreateAndUpdateTaskRequestDto.builder()
+                .title("kept title")
+                .description("changed description")
+                .endDate(LocalDateTime.now(clock).plusDays(2))
+                .assignedTo(EMPLOYEE_ID)
+                .build();
+
+        //Step 1: a task can be updated without changing its title and assignee.
+        mockMvc.perform(put("/api/tasks/" + createdTask.id())
+                        .header("If-Match", EntityVersionTag.of(createdTask.version()))
+                        .contentType(APPLICATION_JSON_VALUE)
+                        .content(objectMapper.writeValueAsString(keptTitle)))
+                .andExpect(status().isOk());
+
+        //Step 2: another task of this employee cannot take that title.
+        TaskResponseDto otherTask = objectMapper.readValue(mockMvc.perform(post("/api/tasks")
+                        .contentType(APPLICATION_JSON_VALUE)
+                        .content(objectMapper.writeValueAsString(CreateAndUpdateTaskRequestDto.builder()
+                                .title("other title")
+                                .description("other description")
+                                .endDate(LocalDateTime.now(clock).plusDays(1))
+                                .assignedTo(EMPLOYEE_ID)
+                                .build())))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString(), TaskResponseDto.class);
+        mockMvc.perform(put("/api/tasks/" + otherTask.id())
+                        .contentType(APPLICATION_JSON_VALUE)
+                        .content(objectMapper.writeValueAsString(keptTitle)))
+                .andExpect(status().isConflict());
+    }
+
+    @Test
+    public void should_export_tasks_with_their_version() {
+        //given
+        List<Task> exportedTasks = new ArrayList<>();
+        //when
+        taskExportRepository.streamTasks(new TaskExportFilter(null, null, null, null), exportedTasks::add);
+        //then
+        assertThat(exportedTasks).isNotEmpty().allSatisfy(task ->
+                assertThat(task.getVersion()).isEqualTo(taskRepository.findById(task.getId()).orElseThrow().getVersion()));
+    }
 }
+
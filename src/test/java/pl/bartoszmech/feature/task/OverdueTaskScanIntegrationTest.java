@@ -0,0 +1,188 @@
+package pl.bartoszmech.feature.task;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.env.Environment;
+import pl.bartoszmech.IntegrationTest;
+import pl.bartoszmech.TaskManager;
+import pl.bartoszmech.domain.task.Task;
+import pl.bartoszmech.domain.task.repository.TaskRepository;
+import pl.bartoszmech.infrastructure.task.scheduler.OverdueScanShard;
+import pl.bartoszmech.infrastructure.task.scheduler.OverdueTaskScanner;
+import pl.bartoszmech.infrastructure.task.scheduler.PostgreSQLOverdueScanShardRepository;
+import pl.bartoszmech.infrastructure.task.scheduler.SchedulerLeases;
+import pl.bartoszmech.infrastructure.task.scheduler.TaskStatusScheduler;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static pl.bartoszmech.domain.task.TaskStatus.FAILED;
+import static pl.bartoszmech.domain.task.TaskStatus.PENDING;
+
+// two application instances share the test database, the second one is started next to the test context,
+// the integration profile splits the scan into shards of 25 task ids
+@IntegrationTest
+@AutoConfigureMockMvc
+public class OverdueTaskScanIntegrationTest {
+    public static final int OVERDUE_TASKS = 200;
+    public static final long EMPLOYEE_ID = 3;
+    @Autowired
+    Environment environment;
+    @Autowired
+    Clock clock;
+    @Autowired
+    TaskRepository taskRepository;
+    @Autowired
+    PostgreSQLOverdueScanShardRepository shardRepository;
+    @Autowired
+    SchedulerLeases firstLeases;
+    @Autowired
+    OverdueTaskScanner firstScanner;
+    @Autowired
+    TaskStatusScheduler firstScheduler;
+    ConfigurableApplicationContext secondInstance;
+
+    @BeforeEach
+    public void startSecondInstance() {
+        secondInstance = new SpringApplicationBuilder(TaskManager.class)
+                .profiles("integration")
+                .run("--server.port=0",
+                        "--spring.jpa.hibernate.ddl-auto=none",
+                        "--spring.datasource.url=" + environment.getProperty("spring.datasource.url"),
+                        "--spring.datasource.username=" + environment.getProperty("spring.datasource.username"),
+                        "--spring.datasource.password=" + environment.getProperty("spring.datasource.password"),
+                        "--spring.r2dbc.url=" + environment.getProperty("spring.r2dbc.url"),
+                        "--spring.r2dbc.username=" + environment.getProperty("spring.r2dbc.username"),
+                        "--spring.r2dbc.password=" + environment.getProperty("spring.r2dbc.password"));
+    }
+
+    @AfterEach
+    public void stopSecondInstance() {
+        secondInstance.close();
+    }
+
+    @Test
+    public void should_give_lease_to_one_instance_until_it_is_released() {
+        //given
+        SchedulerLeases secondLeases = secondInstance.getBean(SchedulerLeases.class);
+        Duration ttl = Duration.ofMinutes(1);
+        //when
+        boolean firstAcquired = firstLeases.tryAcquire("integration-lease", ttl);
+        boolean secondAcquiredWhileHeld = secondLeases.tryAcquire("integration-lease", ttl);
+        boolean firstRenewed = firstLeases.tryAcquire("integration-lease", ttl);
+        firstLeases.releaseAll();
+        boolean secondAcquiredAfterRelease = secondLeases.tryAcquire("integration-lease", ttl);
+        //then
+        assertAll("Lease assertions",
+                () -> assertThat(firstAcquired).isTrue(),
+                () -> assertThat(secondAcquiredWhileHeld).isFalse(),
+                () -> assertThat(firstRenewed).isTrue(),
+                () -> assertThat(secondAcquiredAfterRelease).isTrue()
+        );
+        secondLeases.releaseAll();
+    }
+
+    @Test
+    public void should_plan_overdue_scan_once_when_instances_run_it_together() throws Exception {
+        //given
+        List<Long> overdueTaskIds = saveOverdueTasks();
+        TaskStatusScheduler secondScheduler = secondInstance.getBean(TaskStatusScheduler.class);
+        //when
+        runConcurrently(List.of(
+                () -> { firstScheduler.updateTaskStatus(); return 0; },
+                () -> { secondScheduler.updateTaskStatus(); return 0; }
+        ));
+        //then
+        List<OverdueScanShard> shards = shardRepository.findAll();
+        assertAll("Coordinated scan assertions",
+                () -> assertThat(shards).hasSize(expectedShards(overdueTaskIds)),
+                () -> assertThat(shards).allSatisfy(shard -> assertThat(shard.getCompletedAt()).isNotNull()),
+                () -> assertThat(shards.stream().mapToInt(OverdueScanShard::getFailedTasks).sum()).isEqualTo(OVERDUE_TASKS),
+                () -> assertFailedOnce(overdueTaskIds)
+        );
+    }
+
+    @Test
+    public void should_share_shards_between_instances_without_duplicate_work() throws Exception {
+        //given
+        List<Long> overdueTaskIds = saveOverdueTasks();
+        TaskStatusScheduler secondScheduler = secondInstance.getBean(TaskStatusScheduler.class);
+        int plannedShards = firstScanner.planShards();
+        //when
+        List<Integer> failedTasksPerInstance = runConcurrently(List.of(
+                firstScheduler::processShards,
+                secondScheduler::processShards
+        ));
+        //then
+        List<OverdueScanShard> shards = shardRepository.findAll();
+        assertAll("Shared scan assertions",
+                () -> assertThat(plannedShards).isEqualTo(expectedShards(overdueTaskIds)),
+                () -> assertThat(failedTasksPerInstance.stream().mapToInt(Integer::intValue).sum()).isEqualTo(OVERDUE_TASKS),
+                () -> assertThat(shards).allSatisfy(shard -> assertThat(shard.getCompletedBy()).isNotNull()),
+                () -> assertThat(shards).extracting(OverdueScanShard::getCompletedBy)
+                        .allMatch(owner -> owner.equals(firstLeases.getOwner()) || owner.equals(secondInstance.getBean(SchedulerLeases.class).getOwner())),
+                () -> assertFailedOnce(overdueTaskIds)
+        );
+    }
+
+    private List<Long> saveOverdueTasks() {
+        LocalDateTime now = LocalDateTime.now(clock);
+        List<Task> tasks = IntStream.range(0, OVERDUE_TASKS)
+                .mapToObj(index -> new Task(null, "Overdue task " + index + " " + now, "Overdue description",
+                        PENDING, now.minusDays(2), now.minusDays(1), null, EMPLOYEE_ID))
+                .toList();
+        return taskRepository.saveAll(tasks).stream().map(Task::getId).toList();
+    }
+
+    // ids come from one pooled sequence, so consecutive tasks fill whole shards
+    private static int expectedShards(List<Long> ids) {
+        long first = ids.stream().mapToLong(Long::longValue).min().orElseThrow();
+        long last = ids.stream().mapToLong(Long::longValue).max().orElseThrow();
+        return Math.toIntExact((last - first) / 25 + 1);
+    }
+
+    private void assertFailedOnce(List<Long> ids) {
+        List<Task> tasks = ids.stream().map(id -> taskRepository.findById(id).orElseThrow()).toList();
+        assertThat(tasks).allSatisfy(task -> {
+            assertThat(task.getStatus()).isEqualTo(FAILED);
+            assertThat(task.getVersion()).isEqualTo(1L);
+        });
+    }
+
+    private static <T> List<T> runConcurrently(List<Callable<T>> calls) throws Exception {
+        CyclicBarrier start = new CyclicBarrier(calls.size());
+        ExecutorService executor = Executors.newFixedThreadPool(calls.size());
+        try {
+            List<Future<T>> futures = executor.invokeAll(calls.stream()
+                    .<Callable<T>>map(call -> () -> {
+                        start.await();
+                        return call.call();
+                    })
+                    .toList());
+            List<T> results = new ArrayList<>();
+            for (Future<T> future : futures) {
+                results.add(future.get());
+            }
+            return results;
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+}
@@ -4,6 +4,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.MvcResult;
@@ -11,9 +12,15 @@ import pl.bartoszmech.IntegrationTest;
 import pl.bartoszmech.application.request.CreateUserDto;
 import pl.bartoszmech.application.response.TokenResponseDto;
 import pl.bartoszmech.application.response.UserResponseDto;
+import pl.bartoszmech.domain.user.EmailTakenException;
+import pl.bartoszmech.domain.user.User;
 import pl.bartoszmech.domain.user.dto.UserDto;
+import pl.bartoszmech.domain.user.repository.UserRepository;
+import pl.bartoszmech.domain.user.service.UserService;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
@@ -26,6 +33,12 @@ public class ManageUserIntegrationTest {
     MockMvc mockMvc;
     @Autowired
     ObjectMapper objectMapper;
+    @Autowired
+    UserService userService;
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+    @Autowired
+    UserRepository userRepository;
 
 
     @Test
@@ -200,4 +213,41 @@ public class ManageUserIntegrationTest {
                 .andExpect(status().isForbidden());
     }
 
+    @Test
+    public void should_evict_cached_user_changed_by_another_instance() throws Exception {
+        //given
+        Long userId = jdbcTemplate.queryForObject("SELECT id FROM users WHERE email = 'MichaelBrown@example.com'", Long.class);
+        UserResponseDto cachedUser = userService.findById(userId);
+        //when
+        jdbcTemplate.update("UPDATE users SET first_name = 'Mike', version = version + 1 WHERE id = ?", userId);
+        //then
+        UserResponseDto refreshedUser = awaitChange(userId, cachedUser);
+        assertAll("Evicted user assertions",
+                () -> assertThat(refreshedUser.firstName()).isEqualTo("Mike"),
+                () -> assertThat(refreshedUser.version()).isEqualTo(cachedUser.version() + 1)
+        );
+    }
+
+    @Test
+    public void should_translate_email_violation_into_email_taken() {
+        //given
+        User duplicate = new User("Mary", "Copy", "MarySmith@example.com", "123456", MANAGER);
+        //when
+        Throwable violation = assertThrows(EmailTakenException.class, () -> userRepository.save(duplicate));
+        //then
+        assertThat(violation.getMessage()).isEqualTo(EmailTakenException.EMAIL_TAKEN);
+    }
+
+    // the eviction arrives asynchronously with the NOTIFY sent on commit
+    private UserResponseDto awaitChange(Long userId, UserResponseDto cachedUser) throws InterruptedException {
+        for (int attempt = 0; attempt < 50; attempt++) {
+            UserResponseDto user = userService.findById(userId);
+            if (!user.equals(cachedUser)) {
+                return user;
+            }
+            Thread.sleep(100);
+        }
+        return userService.findById(userId);
+    }
+
 }
@@ -0,0 +1,225 @@
+package pl.bartoszmech.infrastructure.datasource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import pl.bartoszmech.infrastructure.datasource.ReplicaRoutingDataSource.ReplicaLag;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static pl.bartoszmech.infrastructure.datasource.Workload.ANALYTICS;
+import static pl.bartoszmech.infrastructure.datasource.Workload.BACKGROUND;
+import static pl.bartoszmech.infrastructure.datasource.Workload.INTERACTIVE;
+
+public class ReplicaRoutingDataSourceTest {
+    List<String> openedConnections = new ArrayList<>();
+    DataSource primary = dataSource("primary");
+    DataSource backgroundPrimary = dataSource("background");
+    DataSource analyticsPrimary = dataSource("analytics");
+    Map<Workload, DataSource> primaries = Map.of(INTERACTIVE, primary, BACKGROUND, backgroundPrimary, ANALYTICS, analyticsPrimary);
+    DataSource firstReplica = dataSource("replica-0");
+    DataSource secondReplica = dataSource("replica-1");
+    DataSource refusingReplica = new AbstractDataSource() {
+        @Override
+        public Connection getConnection() throws SQLException {
+            throw new SQLException("Connection refused");
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            return getConnection();
+        }
+    };
+    Map<DataSource, Duration> replicaLags = new HashMap<>(Map.of(firstReplica, Duration.ZERO, secondReplica, Duration.ZERO));
+    Set<DataSource> disconnectedReplicas = new HashSet<>();
+    ReplicaRoutingDataSource routingDataSource = new ReplicaRoutingDataSource(primaries, List.of(firstReplica, secondReplica),
+            Duration.ofSeconds(2), this::lagOf);
+
+    @AfterEach
+    public void clearTransaction() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+    }
+
+    @Test
+    public void should_route_read_write_transactions_to_primary() {
+        //given
+        routingDataSource.checkReplicas();
+        //when
+        DataSource target = route();
+        //then
+        assertThat(target).isSameAs(primary);
+    }
+
+    @Test
+    public void should_route_transactions_to_primary_pool_of_current_workload() {
+        //given
+        routingDataSource.checkReplicas();
+        //when
+        DataSource backgroundTarget;
+        try (Workload.Scope ignored = BACKGROUND.enter()) {
+            backgroundTarget = route();
+        }
+        DataSource interactiveTarget = route();
+        //then
+        assertAll("Workload routing assertions",
+                () -> assertThat(backgroundTarget).isSameAs(backgroundPrimary),
+                () -> assertThat(interactiveTarget).isSameAs(primary)
+        );
+    }
+
+    @Test
+    public void should_fall_back_to_primary_pool_of_current_workload_without_replicas() {
+        //given
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        //when
+        DataSource target;
+        try (Workload.Scope ignored = ANALYTICS.enter()) {
+            target = route();
+        }
+        //then
+        assertThat(target).isSameAs(analyticsPrimary);
+    }
+
+    @Test
+    public void should_spread_read_only_transactions_over_replicas() {
+        //given
+        routingDataSource.checkReplicas();
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        //when
+        DataSource first = route();
+        DataSource second = route();
+        //then
+        assertThat(List.of(first, second)).containsExactlyInAnyOrder(firstReplica, secondReplica);
+    }
+
+    @Test
+    public void should_keep_read_only_transactions_on_primary_pool_when_primary_reads_are_required() {
+        //given
+        routingDataSource.checkReplicas();
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        //when
+        DataSource target;
+        try (Workload.Scope ignored = ANALYTICS.enter(); Workload.Scope primary = PrimaryReads.enter()) {
+            target = route();
+        }
+        DataSource targetAfterScope = route();
+        //then
+        assertAll("Primary reads assertions",
+                () -> assertThat(target).isSameAs(analyticsPrimary),
+                () -> assertThat(targetAfterScope).isIn(firstReplica, secondReplica)
+        );
+    }
+
+    @Test
+    public void should_read_from_primary_until_replicas_are_checked() {
+        //given
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        //when
+        DataSource target = route();
+        //then
+        assertThat(target).isSameAs(primary);
+    }
+
+    @Test
+    public void should_skip_replica_lagging_behind_tolerance() {
+        //given
+        replicaLags.put(firstReplica, Duration.ofSeconds(3));
+        routingDataSource.checkReplicas();
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        //when
+        DataSource first = route();
+        DataSource second = route();
+        //then
+        assertAll("Lagging replica assertions",
+                () -> assertThat(first).isSameAs(secondReplica),
+                () -> assertThat(second).isSameAs(secondReplica)
+        );
+    }
+
+    @Test
+    public void should_skip_replica_whose_wal_receiver_is_disconnected() {
+        //given
+        routingDataSource.checkReplicas();
+        disconnectedReplicas.add(firstReplica);
+        routingDataSource.checkReplicas();
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        //when
+        DataSource first = route();
+        DataSource second = route();
+        //then
+        assertAll("Disconnected replica assertions",
+                () -> assertThat(first).isSameAs(secondReplica),
+                () -> assertThat(second).isSameAs(secondReplica)
+        );
+    }
+
+    @Test
+    public void should_read_from_primary_when_replica_refuses_connection() throws SQLException {
+        //given
+        ReplicaRoutingDataSource routingDataSource = new ReplicaRoutingDataSource(primaries, List.of(refusingReplica),
+                Duration.ofSeconds(2), replica -> ReplicaLag.of(Duration.ZERO));
+        routingDataSource.checkReplicas();
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        //when
+        routingDataSource.getConnection();
+        //then
+        assertAll("Refused connection assertions",
+                () -> assertThat(openedConnections).containsExactly("primary"),
+                () -> assertThat(routingDataSource.getResolvedDataSources().get(routingDataSource.determineCurrentLookupKey())).isSameAs(primary)
+        );
+    }
+
+    @Test
+    public void should_fall_back_to_primary_when_no_replica_is_available() {
+        //given
+        routingDataSource.checkReplicas();
+        replicaLags.put(firstReplica, Duration.ofMinutes(1));
+        replicaLags.remove(secondReplica);
+        routingDataSource.checkReplicas();
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        //when
+        DataSource target = route();
+        //then
+        assertThat(target).isSameAs(primary);
+    }
+
+    private DataSource dataSource(String name) {
+        return new AbstractDataSource() {
+            @Override
+            public Connection getConnection() {
+                openedConnections.add(name);
+                return null;
+            }
+
+            @Override
+            public Connection getConnection(String username, String password) {
+                return getConnection();
+            }
+        };
+    }
+
+    private DataSource route() {
+        return routingDataSource.getResolvedDataSources().get(routingDataSource.determineCurrentLookupKey());
+    }
+
+    private ReplicaLag lagOf(DataSource replica) throws SQLException {
+        Duration lag = replicaLags.get(replica);
+        if (lag == null) {
+            throw new SQLException("Connection refused");
+        }
+        return disconnectedReplicas.contains(replica) ? ReplicaLag.DISCONNECTED : ReplicaLag.of(lag);
+    }
+
+}
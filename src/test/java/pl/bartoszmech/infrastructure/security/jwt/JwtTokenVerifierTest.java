@@ -0,0 +1,80 @@
+package pl.bartoszmech.infrastructure.security.jwt;
+
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.algorithms.Algorithm;
+import com.auth0.jwt.exceptions.TokenExpiredException;
+import com.auth0.jwt.interfaces.DecodedJWT;
+import com.auth0.jwt.interfaces.JWTVerifier;
+import org.junit.jupiter.api.Test;
+import pl.bartoszmech.domain.task.AdjustableClock;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class JwtTokenVerifierTest {
+    private final AdjustableClock clock = new AdjustableClock(
+            LocalDateTime.of(2014, 12, 22, 10, 15, 30).toInstant(ZoneOffset.UTC),
+            ZoneId.of("UTC")
+    );
+    private final Algorithm algorithm = Algorithm.HMAC256("secret");
+    private final AtomicInteger verifications = new AtomicInteger();
+    private final JwtTokenVerifier tokenVerifier = new JwtTokenVerifier(countingVerifier(new JwtConfiguration().jwtVerifier(algorithm, clock)), clock);
+
+    @Test
+    public void should_verify_signature_only_once_for_repeated_token() {
+        //given
+        String token = createToken("employee@example.com", Duration.ofHours(1));
+        //when
+        DecodedJWT first = tokenVerifier.verify(token);
+        DecodedJWT second = tokenVerifier.verify(token);
+        //then
+        assertAll(
+                () -> assertThat(first.getSubject()).isEqualTo("employee@example.com"),
+                () -> assertThat(second.getSubject()).isEqualTo("employee@example.com"),
+                () -> assertThat(verifications.get()).isEqualTo(1)
+        );
+    }
+
+    @Test
+    public void should_reject_cached_token_after_it_expires() {
+        //given
+        String token = createToken("employee@example.com", Duration.ofHours(1));
+        tokenVerifier.verify(token);
+        //when
+        clock.advanceInTimeBy(Duration.ofHours(2));
+        //then
+        assertThrows(TokenExpiredException.class, () -> tokenVerifier.verify(token));
+        assertThat(verifications.get()).isEqualTo(2);
+    }
+
+    private String createToken(String subject, Duration validity) {
+        return JWT.create()
+                .withSubject(subject)
+                .withIssuedAt(clock.instant())
+                .withExpiresAt(clock.instant().plus(validity))
+                .sign(algorithm);
+    }
+
+    private JWTVerifier countingVerifier(JWTVerifier verifier) {
+        return new JWTVerifier() {
+            @Override
+            public DecodedJWT verify(String token) {
+                verifications.incrementAndGet();
+                return verifier.verify(token);
+            }
+
+            @Override
+            public DecodedJWT verify(DecodedJWT jwt) {
+                verifications.incrementAndGet();
+                return verifier.verify(jwt);
+            }
+        };
+    }
+}
@@ -0,0 +1,92 @@
+package pl.bartoszmech.infrastructure.task.cache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import pl.bartoszmech.domain.task.Task;
+import pl.bartoszmech.domain.task.TaskRepositoryTestImpl;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static pl.bartoszmech.domain.task.TaskStatus.PENDING;
+
+public class CachingTaskRepositoryTest {
+    AtomicInteger databaseReads = new AtomicInteger();
+    TaskRepositoryTestImpl database = new TaskRepositoryTestImpl() {
+        @Override
+        public Optional<Task> findById(Long id) {
+            databaseReads.incrementAndGet();
+            return super.findById(id);
+        }
+    };
+    MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    CachingTaskRepository repository = new CachingTaskRepository(database,
+            new TaskCacheProperties(100, Duration.ofMinutes(10)), meterRegistry);
+
+    @Test
+    public void should_read_task_from_database_only_once() {
+        //given
+        Task task = repository.save(createTask("Write report"));
+        //when
+        repository.findById(task.getId());
+        Task cachedTask = repository.findById(task.getId()).orElseThrow();
+        //then
+        assertAll("Read-through assertions",
+                () -> assertThat(cachedTask).isEqualTo(task),
+                () -> assertThat(databaseReads.get()).isEqualTo(1),
+                () -> assertThat(meterRegistry.get("cache.gets").tag("cache", "tasks").tag("result", "hit").functionCounter().count()).isEqualTo(1),
+                () -> assertThat(meterRegistry.get("cache.gets").tag("cache", "tasks").tag("result", "miss").functionCounter().count()).isEqualTo(1)
+        );
+    }
+
+    @Test
+    public void should_not_let_caller_modify_cached_task() {
+        //given
+        Task task = repository.save(createTask("Write report"));
+        //when
+        repository.findById(task.getId()).orElseThrow().fail();
+        //then
+        assertThat(repository.findById(task.getId()).orElseThrow().getStatus()).isEqualTo(PENDING);
+    }
+
+    @Test
+    public void should_evict_task_when_it_is_saved() {
+        //given
+        Task task = repository.save(createTask("Write report"));
+        repository.findById(task.getId());
+        //when
+        repository.save(new Task(task.getId(), "Write final report", task.getDescription(), PENDING,
+                task.getStartDate(), task.getEndDate(), null, task.getAssignedTo(), task.getVersion()));
+        //then
+        assertThat(repository.findById(task.getId()).orElseThrow().getTitle()).isEqualTo("Write final report");
+    }
+
+    @Test
+    public void should_serve_fresh_task_after_change_notification() {
+        //given
+        Task task = repository.save(createTask("Write report"));
+        repository.findById(task.getId());
+        database.save(new Task(task.getId(), "Changed on other node", task.getDescription(), PENDING,
+                task.getStartDate(), task.getEndDate(), null, task.getAssignedTo(), task.getVersion()));
+        //when
+        String staleTitle = repository.findById(task.getId()).orElseThrow().getTitle();
+        repository.invalidate(task.getId());
+        //then
+        assertAll("Invalidation assertions",
+                () -> assertThat(staleTitle).isEqualTo("Write report"),
+                () -> assertThat(repository.findById(task.getId()).orElseThrow().getTitle()).isEqualTo("Changed on other node"),
+                () -> assertThat(meterRegistry.get("cache.invalidations").tag("cache", "tasks").counter().count()).isEqualTo(1)
+        );
+    }
+
+    private Task createTask(String title) {
+        return new Task(null, title, "Quarterly report", PENDING,
+                LocalDateTime.of(2014, 6, 1, 8, 0), LocalDateTime.of(2014, 6, 3, 9, 0), null, 3L);
+    }
+
+}